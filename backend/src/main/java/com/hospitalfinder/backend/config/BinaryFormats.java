@@ -0,0 +1,61 @@
+package com.hospitalfinder.backend.config;
+
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+/**
+ * Binary encodings offered next to JSON. Endpoints that stream pre-encoded
+ * JSON check {@link #negotiate(String)} and hand the DTOs to the message
+ * converters instead when a client asked for CBOR or Protobuf.
+ */
+public final class BinaryFormats {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+    public static final MediaType PROTOBUF_ALT = MediaType.parseMediaType("application/protobuf");
+
+    private BinaryFormats() {
+    }
+
+    /**
+     * The binary media type to answer with, or null when the response should
+     * stay JSON. The first acceptable type in header order wins; wildcards and
+     * unparseable headers mean JSON.
+     */
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.isWildcardType() || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (type.equalsTypeAndSubtype(CBOR)) {
+                return CBOR;
+            }
+            if (type.equalsTypeAndSubtype(PROTOBUF) || type.equalsTypeAndSubtype(PROTOBUF_ALT)) {
+                return PROTOBUF;
+            }
+        }
+        return null;
+    }
+
+    /** Short suffix that keeps ETags distinct per representation. */
+    public static String suffix(MediaType type) {
+        if (type == null) {
+            return "";
+        }
+        return type.equals(CBOR) ? "-cbor" : "-proto";
+    }
+}
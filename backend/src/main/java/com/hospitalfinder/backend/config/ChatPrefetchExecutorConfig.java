@@ -0,0 +1,28 @@
+package com.hospitalfinder.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Small pool for the chat clinic prefetch, kept apart from the LLM pool so a
+ * catalog scan never delays reading a model reply. When it is saturated the
+ * prefetch is skipped and the full catalog is ranked instead.
+ */
+@Configuration
+public class ChatPrefetchExecutorConfig {
+
+    @Bean(name = "chatPrefetchExecutor")
+    public ThreadPoolTaskExecutor chatPrefetchExecutor(
+            @Value("${chat.prefetch.pool-size:2}") int poolSize,
+            @Value("${chat.prefetch.queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-prefetch-");
+        executor.initialize();
+        return executor;
+    }
+}
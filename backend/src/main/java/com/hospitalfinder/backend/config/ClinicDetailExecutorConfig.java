@@ -0,0 +1,27 @@
+package com.hospitalfinder.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pool for the clinic page fan-out. When it is saturated new parts
+ * are rejected and reported as missing instead of queueing without limit.
+ */
+@Configuration
+public class ClinicDetailExecutorConfig {
+
+    @Bean(name = "clinicDetailExecutor")
+    public ThreadPoolTaskExecutor clinicDetailExecutor(
+            @Value("${catalog.detail.pool-size:8}") int poolSize,
+            @Value("${catalog.detail.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("clinic-detail-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -25,8 +25,8 @@ public class CorsConfig {
                                 "https://hospico-mysphmus.onslate.in",
                                 "https://hospico-backend-60061261997.development.zohocatalystappsail.com")
                         .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
-                        .allowedHeaders("Content-Type", "Authorization", "X-Requested-With")
-                        .exposedHeaders("Set-Cookie")
+                        .allowedHeaders("Content-Type", "Authorization", "X-Requested-With", "If-None-Match")
+                        .exposedHeaders("Set-Cookie", "ETag")
                         .allowCredentials(true)
                         .maxAge(3600L); // 1 hour
             }
@@ -49,8 +49,8 @@ public class CorsConfig {
                 "*" // Allow all origins safely with setAllowedOriginPatterns
         ));
         configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
-        configuration.setAllowedHeaders(List.of("Content-Type", "Authorization", "X-Requested-With"));
-        configuration.setExposedHeaders(List.of("Set-Cookie"));
+        configuration.setAllowedHeaders(List.of("Content-Type", "Authorization", "X-Requested-With", "If-None-Match"));
+        configuration.setExposedHeaders(List.of("Set-Cookie", "ETag"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -0,0 +1,40 @@
+package com.hospitalfinder.backend.config;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.hospitalfinder.backend.dto.SparseFields;
+
+@Configuration
+public class JacksonConfig {
+
+    // DTOs carrying @JsonFilter must still serialize when no fields= selection was made
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsDefaultFilter() {
+        return builder -> builder.filters(SparseFields.DEFAULT_FILTERS);
+    }
+
+    // Binary converters go after JSON so that */* and missing Accept headers still get JSON
+    @Bean
+    public WebMvcConfigurer binaryFormatConverters(Jackson2ObjectMapperBuilder builder, ProtobufSchemas protobufSchemas) {
+        CBORMapper cborMapper = new CBORMapper();
+        builder.configure(cborMapper);
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                // Replace the default CBOR converter, whose mapper lacks our Jackson settings
+                converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter);
+                converters.add(new MappingJackson2CborHttpMessageConverter(cborMapper));
+                converters.add(new JacksonProtobufHttpMessageConverter(protobufSchemas));
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.hospitalfinder.backend.config;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * Writes response DTOs as Protobuf using the schemas from
+ * {@link ProtobufSchemas}. Response-only: request bodies stay JSON.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final ProtobufSchemas schemas;
+
+    public JacksonProtobufHttpMessageConverter(ProtobufSchemas schemas) {
+        super(BinaryFormats.PROTOBUF, BinaryFormats.PROTOBUF_ALT);
+        this.schemas = schemas;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return !clazz.isPrimitive()
+                && !clazz.isArray()
+                && !CharSequence.class.isAssignableFrom(clazz)
+                && !Map.class.isAssignableFrom(clazz)
+                && !clazz.getName().startsWith("java.lang.");
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        try {
+            if (value instanceof Collection<?> items) {
+                Class<?> elementType = elementType(items);
+                if (elementType == null) {
+                    // Empty repeated field: the encoded message has no bytes
+                    return;
+                }
+                schemas.mapper().writer(schemas.listSchema(elementType))
+                        .writeValue(outputMessage.getBody(), new ProtobufSchemas.ListMessage<>(List.copyOf(items)));
+                return;
+            }
+            schemas.mapper().writer(schemas.schema(value.getClass())).writeValue(outputMessage.getBody(), value);
+        } catch (JsonMappingException e) {
+            throw new HttpMessageNotWritableException("Could not write Protobuf: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static Class<?> elementType(Collection<?> items) {
+        for (Object item : items) {
+            if (item != null) {
+                return item.getClass();
+            }
+        }
+        return null;
+    }
+}
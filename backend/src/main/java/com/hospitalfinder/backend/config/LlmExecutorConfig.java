@@ -0,0 +1,28 @@
+package com.hospitalfinder.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pool that finishes chat requests once the LLM has answered
+ * (parsing, hospital lookup). Chat bursts queue here, not on the Tomcat
+ * request threads that serve clinics and bookings.
+ */
+@Configuration
+public class LlmExecutorConfig {
+
+    @Bean(name = "llmExecutor")
+    public ThreadPoolTaskExecutor llmExecutor(
+            @Value("${groq.client.pool-size:4}") int poolSize,
+            @Value("${groq.client.queue-capacity:64}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("llm-");
+        executor.initialize();
+        return executor;
+    }
+}
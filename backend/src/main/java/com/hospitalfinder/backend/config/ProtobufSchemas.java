@@ -0,0 +1,66 @@
+package com.hospitalfinder.backend.config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+
+/**
+ * Protobuf schemas generated from the DTO classes by Jackson, cached per class,
+ * so the {@code .proto} served by {@code /api/schemas} always matches what the
+ * converter writes. Field numbers come from {@code @JsonProperty(index = ...)}
+ * on the DTO fields; without them Jackson would number properties in
+ * declaration order and a reordered or inserted field would silently change
+ * the wire format. Fields may only be appended with the next free index; a
+ * removed field's number is never reused. Protobuf has no top-level arrays;
+ * collections go out as a {@link ListMessage} with a single
+ * {@code repeated items = 1} field.
+ */
+@Component
+public class ProtobufSchemas {
+
+    private final ProtobufMapper mapper;
+    private final Map<Class<?>, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ProtobufSchema> listSchemas = new ConcurrentHashMap<>();
+
+    public ProtobufSchemas(Jackson2ObjectMapperBuilder builder) {
+        // Same settings as the JSON mapper, so the same DTOs keep one shape
+        this.mapper = new ProtobufMapper();
+        builder.configure(mapper);
+    }
+
+    public ProtobufMapper mapper() {
+        return mapper;
+    }
+
+    /** Schema of a single DTO. */
+    public ProtobufSchema schema(Class<?> type) {
+        return schemas.computeIfAbsent(type, t -> generate(mapper.constructType(t)));
+    }
+
+    /** Schema of the list wrapper carrying DTOs of the given type. */
+    public ProtobufSchema listSchema(Class<?> elementType) {
+        return listSchemas.computeIfAbsent(elementType, t -> generate(
+                mapper.getTypeFactory().constructParametricType(ListMessage.class, t)));
+    }
+
+    private ProtobufSchema generate(JavaType type) {
+        try {
+            return mapper.generateSchemaFor(type);
+        } catch (JsonMappingException e) {
+            throw new IllegalStateException("Failed to generate Protobuf schema for " + type, e);
+        }
+    }
+
+    /** Wire shape of collection responses. */
+    public record ListMessage<T>(@JsonProperty(index = 1) List<T> items) {
+    }
+}
@@ -35,6 +35,14 @@ public class SchemaFixer {
             } catch (Exception e) {
                 System.err.println("Schema fix failed: " + e.getMessage());
             }
+
+            // ddl-auto=update never drops columns, and this one was NOT NULL, so listing inserts
+            // would fail once the entity stopped writing it
+            try {
+                jdbcTemplate.execute("ALTER TABLE clinic_listing DROP COLUMN IF EXISTS doctor_count");
+            } catch (Exception e) {
+                System.err.println("Schema fix failed: " + e.getMessage());
+            }
         };
     }
 }
@@ -36,7 +36,10 @@ public class SecurityConfig {
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/users/me").permitAll()
-                        .requestMatchers("/api/clinics/**", "/api/specializations/**", "/api/chat", "/api/health")
+                        // Bulk writes; must precede the public /api/clinics/** rule
+                        .requestMatchers("/api/clinics/import", "/api/clinics/import/**").hasRole("ADMIN")
+                        .requestMatchers("/api/clinics/**", "/api/v2/clinics/**", "/api/specializations/**", "/api/chat",
+                                "/api/chat/stream", "/api/health", "/api/doctors/batch", "/api/sync/**", "/api/schemas/**")
                         .permitAll()
                         .requestMatchers("/api/users/**").authenticated()
                         .requestMatchers(org.springframework.http.HttpMethod.OPTIONS, "/**").permitAll()
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.hospitalfinder.backend.dto.AppointmentRequestDTO;
 import com.hospitalfinder.backend.dto.AppointmentResponseDTO;
+import com.hospitalfinder.backend.dto.MessageResponse;
 import com.hospitalfinder.backend.entity.Appointment;
 import com.hospitalfinder.backend.entity.Clinic;
 import com.hospitalfinder.backend.entity.User;
@@ -44,30 +46,30 @@ public class AppointmentController {
         // Validate User
         var userOpt = userRepository.findById(dto.getUserId());
         if (userOpt.isEmpty())
-            return ResponseEntity.badRequest().body("User not found");
+            return badRequest("User not found");
 
         // Validate Clinic
         var clinicOpt = clinicRepository.findById(dto.getClinicId());
         if (clinicOpt.isEmpty())
-            return ResponseEntity.badRequest().body("Clinic not found");
+            return badRequest("Clinic not found");
 
         // Validate Doctor
         var doctorOpt = doctorRepository.findById(dto.getDoctorId());
         if (doctorOpt.isEmpty())
-            return ResponseEntity.badRequest().body("Doctor not found");
+            return badRequest("Doctor not found");
 
         LocalDateTime time = LocalDateTime.parse(dto.getAppointmentTime());
 
         // Prevent past bookings
         if (time.isBefore(LocalDateTime.now()))
-            return ResponseEntity.badRequest().body("Cannot book in the past");
+            return badRequest("Cannot book in the past");
 
         // Check duplicate for doctor
         boolean exists = appointmentRepository.existsByDoctorIdAndAppointmentTime(
                 dto.getDoctorId(), time);
 
         if (exists)
-            return ResponseEntity.badRequest().body("This time slot is already booked");
+            return badRequest("This time slot is already booked");
 
         // Create Appointment
         Appointment appointment = new Appointment();
@@ -95,7 +97,7 @@ public class AppointmentController {
     public ResponseEntity<?> getAppointmentsByUser(@PathVariable Long userId) {
         User user = userRepository.findById(userId).orElse(null);
         if(user == null)
-            return ResponseEntity.ok("User not found");
+            return notFound("User not found");
         var appointments = appointmentRepository.findByUserId(userId);
         var responseList = appointments.stream()
                 .map(AppointmentResponseDTO::new)
@@ -107,7 +109,7 @@ public class AppointmentController {
     public ResponseEntity<?> getAppointmentsByClinic(@PathVariable Long clinicId) {
         Clinic clinic = clinicRepository.findById(clinicId).orElse(null);
         if(clinic == null)
-            return ResponseEntity.ok("Clinic not found");
+            return notFound("Clinic not found");
         var appointments = appointmentRepository.findByClinicId(clinicId);
         var responseList = appointments.stream()
                 .map(AppointmentResponseDTO::new)
@@ -133,48 +135,52 @@ public class AppointmentController {
         } catch (Exception e) {
             System.err.println("ERROR in getAppointmentsByDoctorAndDate: " + e.getMessage());
             e.printStackTrace();
-            return ResponseEntity.badRequest().body("Invalid date format. Use YYYY-MM-DD. Error: " + e.getMessage());
+            return badRequest("Invalid date format. Use YYYY-MM-DD. Error: " + e.getMessage());
         }
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<?> updateAppointment(@PathVariable Long id, @RequestBody AppointmentRequestDTO dto) {
-        Appointment appointment = appointmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Appointment not found"));
+        Appointment appointment = appointmentRepository.findById(id).orElse(null);
+        if (appointment == null)
+            return notFound("Appointment not found");
 
         // Update time
         if (dto.getAppointmentTime() != null) {
             LocalDateTime newTime = LocalDateTime.parse(dto.getAppointmentTime());
 
             if (newTime.isBefore(LocalDateTime.now()))
-                return ResponseEntity.badRequest().body("Cannot update to a past time");
+                return badRequest("Cannot update to a past time");
 
             // Prevent double booking
             if (appointmentRepository.existsByDoctorIdAndAppointmentTime(dto.getDoctorId(), newTime))
-                return ResponseEntity.badRequest().body("Time slot already booked");
+                return badRequest("Time slot already booked");
 
             appointment.setAppointmentTime(newTime);
         }
 
         // Update doctor
         if (dto.getDoctorId() != null) {
-            var doc = doctorRepository.findById(dto.getDoctorId())
-                    .orElseThrow(() -> new RuntimeException("Doctor not found"));
-            appointment.setDoctor(doc);
+            var doc = doctorRepository.findById(dto.getDoctorId());
+            if (doc.isEmpty())
+                return badRequest("Doctor not found");
+            appointment.setDoctor(doc.get());
         }
 
         // Update clinic
         if (dto.getClinicId() != null) {
-            var clinic = clinicRepository.findById(dto.getClinicId())
-                    .orElseThrow(() -> new RuntimeException("Clinic not found"));
-            appointment.setClinic(clinic);
+            var clinic = clinicRepository.findById(dto.getClinicId());
+            if (clinic.isEmpty())
+                return badRequest("Clinic not found");
+            appointment.setClinic(clinic.get());
         }
 
         // Update user
         if (dto.getUserId() != null) {
-            var user = userRepository.findById(dto.getUserId())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
-            appointment.setUser(user);
+            var user = userRepository.findById(dto.getUserId());
+            if (user.isEmpty())
+                return badRequest("User not found");
+            appointment.setUser(user.get());
         }
 
         // Update patient details
@@ -196,6 +202,15 @@ public class AppointmentController {
             return ResponseEntity.notFound().build();
         }
         appointmentRepository.deleteById(id);
-        return ResponseEntity.ok("Appointment deleted successfully");
+        return ResponseEntity.ok(new MessageResponse("Appointment deleted successfully"));
+    }
+
+    // Error bodies are DTOs so they encode under any negotiated format, not only text
+    private static ResponseEntity<MessageResponse> badRequest(String message) {
+        return ResponseEntity.badRequest().body(new MessageResponse(message));
+    }
+
+    private static ResponseEntity<MessageResponse> notFound(String message) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new MessageResponse(message));
     }
 }
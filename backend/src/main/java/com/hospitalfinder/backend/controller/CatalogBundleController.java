@@ -0,0 +1,79 @@
+package com.hospitalfinder.backend.controller;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hospitalfinder.backend.service.CatalogBundleService;
+import com.hospitalfinder.backend.service.CatalogVersion;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/clinics")
+@RequiredArgsConstructor
+public class CatalogBundleController {
+
+    // Tomcat's sendfile request attributes (NIO connector)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final CatalogBundleService catalogBundleService;
+    private final CatalogVersion catalogVersion;
+
+    /**
+     * Whole catalog as a gzip-compressed columnar bundle (see
+     * {@link CatalogBundleService} for the layout). The file is handed to the
+     * connector for sendfile where supported, otherwise copied channel to
+     * channel.
+     */
+    @GetMapping("/bundle")
+    public void getBundle(HttpServletRequest request, HttpServletResponse response,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) throws IOException {
+        CatalogBundleService.Bundle bundle = catalogBundleService.bundle();
+        response.setHeader(HttpHeaders.ETAG, bundle.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, catalogVersion.cacheControl().getHeaderValue());
+        response.setHeader("X-Catalog-Version", Long.toString(bundle.version()));
+        if (catalogVersion.isNotModified(ifNoneMatch, bundle.etag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+        response.setContentType("application/octet-stream");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"catalog.bin.gz\"");
+        response.setContentLengthLong(bundle.size());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, bundle.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, bundle.size());
+            return;
+        }
+        try (FileChannel file = FileChannel.open(bundle.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            // transferTo may write fewer bytes than asked for
+            long position = 0;
+            while (position < bundle.size()) {
+                long written = file.transferTo(position, bundle.size() - position, out);
+                if (written <= 0) {
+                    throw new EOFException("Bundle " + bundle.file() + " ended at " + position + " of "
+                            + bundle.size() + " bytes");
+                }
+                position += written;
+            }
+        }
+    }
+}
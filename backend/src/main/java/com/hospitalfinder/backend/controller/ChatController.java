@@ -1,19 +1,39 @@
 package com.hospitalfinder.backend.controller;
 
 import com.hospitalfinder.backend.dto.ChatRequest;
-import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.exception.LlmException;
+import com.hospitalfinder.backend.exception.LlmUnavailableException;
 import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.service.ClinicIndex;
+import com.hospitalfinder.backend.service.ClinicRankingService;
+import com.hospitalfinder.backend.service.ClinicRankingService.Nearby;
+import com.hospitalfinder.backend.service.ClinicRankingService.RankedClinic;
+import com.hospitalfinder.backend.service.ConversationStore;
+import com.hospitalfinder.backend.service.FaqIndex;
+import com.hospitalfinder.backend.service.LlmProvider;
+import com.hospitalfinder.backend.service.SymptomClassifier;
+import com.hospitalfinder.backend.service.SymptomKeywordMatcher;
+import com.hospitalfinder.backend.service.SymptomResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
 import java.util.regex.*;
 import java.util.stream.Collectors;
 
@@ -22,13 +42,44 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = {"http://localhost:5173", "https://hospico-mysphmus.onslate.in"}) // Vite default port + Catalyst Slate
 public class ChatController {
 
-    @Value("${groq.api.key:}")
-    private String apiKey;
+    private static final Logger logger = LoggerFactory.getLogger(ChatController.class);
 
     @Autowired
     private ClinicRepository clinicRepository;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private ClinicRankingService clinicRankingService;
+
+    @Autowired
+    private LlmProvider llm;
+
+    @Autowired
+    private SymptomResponseCache symptomResponseCache;
+
+    @Autowired
+    private SymptomKeywordMatcher symptomKeywordMatcher;
+
+    @Autowired
+    private SymptomClassifier symptomClassifier;
+
+    @Autowired
+    private FaqIndex faqIndex;
+
+    @Autowired
+    private ConversationStore conversationStore;
+
+    @Autowired
+    @Qualifier("chatPrefetchExecutor")
+    private ThreadPoolTaskExecutor prefetchExecutor;
+
+    // Clinics nearest the user gathered for a symptom message while the LLM is working
+    @Value("${chat.prefetch.nearest:50}")
+    private int prefetchSize;
+
+    // SSE connections outlive the LLM deadline slightly so the final event still gets out
+    @Value("${groq.client.timeout-ms:15000}")
+    private long streamTimeoutMs;
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     // Maximum hospitals to return in symptom-based search
@@ -39,27 +90,17 @@ public class ChatController {
             "(?:hospitals?|clinics?)\\s+(?:near|in|at|around)\\s+(.+)",
             Pattern.CASE_INSENSITIVE);
 
-    // Keywords that indicate health symptoms (for conditional prompt injection)
-    private static final List<String> SYMPTOM_KEYWORDS = Arrays.asList(
-            "pain", "ache", "aching", "fever", "cough", "cold", "headache", "stomach",
-            "breathing", "breath", "chest", "heart", "skin", "rash", "itch", "itching",
-            "swelling", "swollen", "injury", "injured", "blood", "bleeding", "vomit",
-            "nausea", "dizziness", "dizzy", "fatigue", "tired", "weakness", "weak",
-            "infection", "sore", "throat", "ear", "eye", "vision", "hearing", "joint",
-            "bone", "muscle", "back", "neck", "leg", "arm", "hand", "foot", "feet",
-            "nose", "allergy", "allergic", "pregnant", "pregnancy", "period", "menstrual",
-            "diabetes", "sugar", "pressure", "bp", "anxiety", "depression", "sleep",
-            "insomnia", "cancer", "tumor", "lump", "burn", "cut", "wound", "fracture",
-            "sprain", "symptom", "symptoms", "problem", "issue", "suffering", "hurts",
-            "hurt", "hurting", "uncomfortable", "discomfort", "unwell", "sick", "ill",
-            "disease", "condition", "diagnosis", "treatment", "doctor", "specialist");
-
     // Valid specializations on the platform
     private static final List<String> VALID_SPECIALIZATIONS = Arrays.asList(
             "cardiology", "orthopedics", "pediatrics", "dermatology", "neurology",
             "gynecology", "ent", "general medicine", "surgery", "ophthalmology",
             "pulmonology", "oncology");
 
+    // Plain chat reply while the LLM's circuit breaker is open
+    private static final String DEGRADED_REPLY = "I can't reach the AI assistant right now. You can still describe "
+            + "your symptoms to get specialist suggestions, search with 'hospitals in <city>', or ask about booking "
+            + "and appointments. Please try again in a minute.";
+
     // Symptom analysis prompt (only injected when symptoms detected)
     private static final String SYMPTOM_ANALYSIS_PROMPT = """
             IMPORTANT: The user is describing health symptoms. You must respond ONLY with valid JSON in this exact format:
@@ -74,59 +115,238 @@ public class ChatController {
             - Respond ONLY with the JSON, nothing else
             """;
 
-    @jakarta.annotation.PostConstruct
-    public void init() {
-        if (apiKey == null || apiKey.isEmpty()) {
-            System.err.println("CRITICAL: Groq API Key is NOT loaded!");
-        } else {
-            System.out.println("Groq API Key loaded successfully. Length: " + apiKey.length());
+    /**
+     * Chat turn. The LLM call runs on the {@link LlmProvider}, so the request
+     * thread is released while the model is generating.
+     */
+    @PostMapping("/chat")
+    public CompletableFuture<ResponseEntity<?>> chat(@RequestBody ChatRequest request) {
+        return answer(request, null);
+    }
+
+    /**
+     * Streaming variant of {@link #chat}. Text replies arrive as {@code token}
+     * events while the model generates them; every stream ends with one
+     * {@code result} event (same body as {@code /api/chat}) or one
+     * {@code error} event. Symptom analysis is JSON the client can't show
+     * half-written, so that path only sends the final {@code result} with the
+     * specialization match and hospital cards.
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(@RequestBody ChatRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs + 5000);
+        answer(request, token -> sendEvent(emitter, "token", Collections.singletonMap("content", token)))
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        sendFailure(emitter, error);
+                    } else {
+                        sendFinal(emitter, response);
+                    }
+                });
+        return emitter;
+    }
+
+    /**
+     * Runs the turn against its server-side conversation, records the
+     * exchange there and returns the conversation id with the reply so the
+     * client can send just its next message. An unknown or expired id is
+     * answered with 409 and {@code conversationReset} unless the request
+     * carries the history to start a new conversation from; replies from such
+     * a new conversation carry {@code conversationReset} too.
+     */
+    private CompletableFuture<ResponseEntity<?>> answer(ChatRequest request, Consumer<String> onToken) {
+        String content = lastMessageContent(request);
+        ConversationStore.Conversation found = conversationStore.find(request.getConversationId());
+        boolean reset = found == null && request.getConversationId() != null;
+        if (reset && !carriesHistory(request)) {
+            // Answering without the history the client thinks we hold would quietly drop its context
+            Map<String, Object> result = new HashMap<>();
+            result.put("error", "Conversation expired; send the full history to continue");
+            result.put("conversationReset", true);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.CONFLICT).body(result));
         }
+        ConversationStore.Conversation conversation = found != null ? found
+                : conversationStore.create(request.getMessages());
+        return answer(request, conversation, content, onToken)
+                .thenApply(response -> remember(conversation, content, response, reset));
     }
 
-    @PostMapping("/chat")
-    public ResponseEntity<?> chat(@RequestBody ChatRequest request) {
-        // Get the latest user message
+    private static boolean carriesHistory(ChatRequest request) {
         List<ChatRequest.Message> messages = request.getMessages();
-        if (messages != null && !messages.isEmpty()) {
-            ChatRequest.Message lastMessage = messages.get(messages.size() - 1);
-            String content = lastMessage.getContent();
-
-            if (content != null) {
-                // Check if it's a hospital search query (explicit)
-                Matcher matcher = HOSPITAL_QUERY_PATTERN.matcher(content.trim());
-                if (matcher.find()) {
-                    String placeName = matcher.group(1).trim();
-                    System.out.println("Hospital search detected for place: " + placeName);
-                    return handleHospitalCitySearch(placeName);
-                }
-            }
+        return messages != null && messages.stream().filter(m -> !"system".equals(m.getRole())).count() > 1;
+    }
+
+    /**
+     * Shared pipeline: local answers and FAQ, then symptom analysis (cache, local
+     * classifier, LLM), then plain LLM chat. With {@code onToken} set, plain
+     * chat replies are streamed to it as they are generated.
+     */
+    private CompletableFuture<ResponseEntity<?>> answer(ChatRequest request,
+            ConversationStore.Conversation conversation, String content, Consumer<String> onToken) {
+        ResponseEntity<?> local = answerLocally(content);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+
+        // Platform questions ("how do I cancel my appointment?") come from the FAQ, unless the
+        // message also names symptoms ("book appointment for fever")
+        SymptomClassifier.Classification classification = symptomClassifier.classify(content);
+        String language = request.getLanguage();
+        String faqAnswer = classification.specializations().isEmpty() && (language == null || language.equals("en"))
+                ? faqIndex.answer(content)
+                : null;
+        if (faqAnswer != null) {
+            Map<String, Object> result = new HashMap<>();
+            result.put("type", "text");
+            result.put("reply", faqAnswer);
+            result.put("source", "faq");
+            return CompletableFuture.completedFuture(ResponseEntity.ok(result));
         }
 
         // Check if message contains symptom keywords
-        boolean containsSymptoms = containsSymptomKeywords(
-                messages != null && !messages.isEmpty()
-                        ? messages.get(messages.size() - 1).getContent()
-                        : "");
+        List<String> symptoms = symptomKeywordMatcher.match(content, request.getLanguage());
+        boolean containsSymptoms = !symptoms.isEmpty();
+        logger.debug("Chat request with {} messages, symptom keywords {}",
+                request.getMessages() != null ? request.getMessages().size() : 0, symptoms);
+
+        if (!containsSymptoms) {
+            List<Object> messages = buildMessages(request, conversation, false);
+            CompletableFuture<String> reply = onToken != null
+                    ? llm.stream(messages, 0.3, 350, onToken)
+                    : llm.complete(messages, 0.3, 350);
+            return reply.<ResponseEntity<?>>thenApply(
+                    replyContent -> toChatResponse(replyContent, false, request, null, false))
+                    .exceptionally(ChatController::llmError);
+        }
+
+        // The model sees the whole conversation, so only a first message's analysis may be shared with others
+        boolean firstTurn = conversation.history().isEmpty();
+        ResponseEntity<?> cached = firstTurn ? cachedSymptomResult(content, request) : null;
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // Confident local classification, or no LLM to ask: answer without the network
+        if (classification.confident() || !llm.isConfigured() || llm.isCircuitOpen()) {
+            logger.debug("Local symptom classification: {} ({})", classification.specializations(),
+                    classification.confidence());
+            return CompletableFuture.completedFuture(
+                    symptomResult(classification.toAnalysis(), request.getLatitude(), request.getLongitude()));
+        }
+
+        // Nearby clinics are gathered while the model works; its answer then only filters them
+        CompletableFuture<Nearby> prefetch = prefetchNearby(request);
+
+        // Ask the LLM; lower temperature for symptom analysis
+        return llm.complete(buildMessages(request, conversation, true), 0.1, 350)
+                .<Nearby, ResponseEntity<?>>thenCombine(prefetch,
+                        (replyContent, nearby) -> toChatResponse(replyContent, true, request, nearby, firstTurn))
+                .exceptionally(error -> {
+                    // Upstream failed: the local guess is better than an error
+                    logger.warn("LLM unavailable, using local symptom classification: {}", error.getMessage());
+                    return symptomResult(classification.toAnalysis(), request.getLatitude(), request.getLongitude(),
+                            prefetch.getNow(null));
+                });
+    }
+
+    /**
+     * Starts collecting the clinics nearest to the user on {@code chatPrefetchExecutor}.
+     * Completes with null when the request has no location or the pool is
+     * saturated; the hospital lookup then ranks the whole catalog as before.
+     */
+    private CompletableFuture<Nearby> prefetchNearby(ChatRequest request) {
+        Double lat = request.getLatitude();
+        Double lng = request.getLongitude();
+        if (lat == null || lng == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> clinicRankingService.nearest(lat, lng, prefetchSize), prefetchExecutor)
+                    .exceptionally(error -> {
+                        logger.debug("Clinic prefetch failed: {}", error.getMessage());
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(null);
+        }
+    }
 
-        // Proceed with AI chat
-        String url = "https://api.groq.com/openai/v1/chat/completions";
+    private static void sendFinal(SseEmitter emitter, ResponseEntity<?> response) {
+        try {
+            sendEvent(emitter, response.getStatusCode().is2xxSuccessful() ? "result" : "error", response.getBody());
+            emitter.complete();
+        } catch (RuntimeException e) {
+            // Client went away; nothing left to tell it
+            emitter.completeWithError(e);
+        }
+    }
 
-        System.out.println("Received chat request with "
-                + (request.getMessages() != null ? request.getMessages().size() : 0) + " messages.");
-        System.out.println("Contains symptoms: " + containsSymptoms);
-        System.out.println("Using API Key: "
-                + (apiKey != null && apiKey.length() > 5 ? apiKey.substring(0, 5) + "..." : "NULL/EMPTY"));
+    // The turn failed outside the LLM error handling; still end the stream with an error event
+    private static void sendFailure(SseEmitter emitter, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        logger.error("Chat stream failed", cause);
+        try {
+            sendEvent(emitter, "error", Collections.singletonMap("error", "Internal Server Error"));
+        } catch (RuntimeException e) {
+            // Client went away; nothing left to tell it
+        }
+        emitter.completeWithError(cause);
+    }
 
+    private static void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String lastMessageContent(ChatRequest request) {
+        List<ChatRequest.Message> messages = request.getMessages();
+        if (messages == null || messages.isEmpty()) {
+            return "";
+        }
+        return messages.get(messages.size() - 1).getContent();
+    }
+
+    /** Answers that need no LLM call, or null. */
+    private ResponseEntity<?> answerLocally(String content) {
+        if (content != null) {
+            // Check if it's a hospital search query (explicit)
+            Matcher matcher = HOSPITAL_QUERY_PATTERN.matcher(content.trim());
+            if (matcher.find()) {
+                String placeName = matcher.group(1).trim();
+                System.out.println("Hospital search detected for place: " + placeName);
+                return handleHospitalCitySearch(placeName);
+            }
+        }
+        return null;
+    }
+
+    /** Result for a symptom message whose analysis is cached, or null; hospitals are ranked fresh. */
+    private ResponseEntity<?> cachedSymptomResult(String content, ChatRequest request) {
+        Map<String, Object> analysis = symptomResponseCache.get(content, request.getLanguage());
+        return analysis == null ? null : symptomResult(analysis, request.getLatitude(), request.getLongitude());
+    }
+
+    /** Hit rate and size of the symptom analysis cache. */
+    @GetMapping("/chat/stats")
+    public ResponseEntity<Map<String, Object>> chatStats() {
+        return ResponseEntity.ok(Map.of("symptomCache", symptomResponseCache.stats(),
+                "conversations", conversationStore.stats(),
+                "llm", llm.stats()));
+    }
+
+    /**
+     * System prompt (symptom analysis or general assistant), the stored
+     * conversation history, then the new user message.
+     */
+    private List<Object> buildMessages(ChatRequest request, ConversationStore.Conversation conversation,
+            boolean containsSymptoms) {
         // Get language from request (default to English)
         String language = request.getLanguage();
         String languageName = getLanguageName(language != null ? language : "en");
 
-        // 1. Prepare Headers
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(apiKey);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        // 2. Prepare System Message with conditional symptom prompt
         Map<String, String> systemMessage = new HashMap<>();
         systemMessage.put("role", "system");
 
@@ -146,87 +366,96 @@ public class ChatController {
         }
         systemMessage.put("content", systemPrompt);
 
-        // 3. Combine Messages
         List<Object> allMessages = new ArrayList<>();
         allMessages.add(systemMessage);
-        if (request.getMessages() != null) {
-            allMessages.addAll(request.getMessages());
-        }
-
-        // 4. Request Body
-        Map<String, Object> body = new HashMap<>();
-        body.put("model", "llama-3.1-8b-instant");
-        body.put("messages", allMessages);
-        body.put("temperature", containsSymptoms ? 0.1 : 0.3); // Lower temperature for symptom analysis
-        body.put("max_tokens", 350);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
+        allMessages.addAll(conversation.history());
+        String content = lastMessageContent(request);
+        allMessages.add(Map.of("role", "user", "content", content != null ? content : ""));
+        return allMessages;
+    }
 
-        try {
-            // 5. Call Groq API
-            System.out.println("Sending request to Groq API...");
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, entity, Map.class);
-            System.out.println("Groq Response Status: " + response.getStatusCode());
-
-            Map<String, Object> responseBody = response.getBody();
-
-            // 6. Extract Content
-            if (responseBody != null && responseBody.containsKey("choices")) {
-                List choices = (List) responseBody.get("choices");
-                if (!choices.isEmpty()) {
-                    Map choice = (Map) choices.get(0);
-                    Map message = (Map) choice.get("message");
-                    String replyContent = (String) message.get("content");
-
-                    // If symptoms were detected, try to parse JSON response
-                    if (containsSymptoms && replyContent != null) {
-                        return handleSymptomResponse(replyContent, request.getLatitude(), request.getLongitude());
-                    }
+    /** Stores a successful exchange and adds the conversation id to the response body. */
+    @SuppressWarnings("unchecked")
+    private static ResponseEntity<?> remember(ConversationStore.Conversation conversation, String content,
+            ResponseEntity<?> response, boolean reset) {
+        if (!(response.getBody() instanceof Map<?, ?> body)) {
+            return response;
+        }
+        // Degraded-mode notices aren't part of the conversation the model should see
+        if (response.getStatusCode().is2xxSuccessful() && body.get("reply") instanceof String reply
+                && !"fallback".equals(body.get("source"))) {
+            conversation.append("user", content);
+            conversation.append("assistant", reply);
+        }
+        Map<String, Object> withId = new LinkedHashMap<>((Map<String, Object>) body);
+        withId.put("conversationId", conversation.id());
+        if (reset) {
+            withId.put("conversationReset", true);
+        }
+        return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders()).body(withId);
+    }
 
-                    // Normal text response
-                    Map<String, Object> result = new HashMap<>();
-                    result.put("type", "text");
-                    result.put("reply", replyContent);
-                    return ResponseEntity.ok(result);
-                }
-            }
+    private ResponseEntity<?> toChatResponse(String replyContent, boolean containsSymptoms, ChatRequest request,
+            Nearby nearby, boolean cacheAnalysis) {
+        if (replyContent == null) {
             Map<String, Object> emptyResult = new HashMap<>();
             emptyResult.put("type", "text");
             emptyResult.put("reply", "No response from AI (Empty choices)");
             return ResponseEntity.ok(emptyResult);
+        }
 
-        } catch (HttpClientErrorException e) {
-            System.err.println("Groq API Error: " + e.getResponseBodyAsString());
-            return ResponseEntity.status(e.getStatusCode())
-                    .body(Collections.singletonMap("error", "Groq API Error: " + e.getResponseBodyAsString()));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.status(500)
-                    .body(Collections.singletonMap("error", "Internal Server Error: " + e.getMessage()));
+        // If symptoms were detected, try to parse JSON response
+        if (containsSymptoms) {
+            return handleSymptomResponse(replyContent, request, nearby, cacheAnalysis);
         }
+
+        // Normal text response
+        return returnAsNormalText(replyContent);
     }
 
-    /**
-     * Check if the message contains symptom-related keywords
-     */
-    private boolean containsSymptomKeywords(String message) {
-        if (message == null || message.isEmpty()) {
-            return false;
+    private static ResponseEntity<?> llmError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof LlmUnavailableException) {
+            // Breaker open: answer right away with what still works instead of an error
+            Map<String, Object> result = new HashMap<>();
+            result.put("type", "text");
+            result.put("reply", DEGRADED_REPLY);
+            result.put("source", "fallback");
+            return ResponseEntity.ok(result);
         }
-        String lowerMessage = message.toLowerCase();
-        return SYMPTOM_KEYWORDS.stream().anyMatch(keyword -> lowerMessage.contains(keyword.toLowerCase()));
+        if (cause instanceof LlmException llmException) {
+            logger.warn("LLM API error: {}", llmException.getMessage());
+            return ResponseEntity.status(llmException.getStatus())
+                    .body(Collections.singletonMap("error", llmException.getMessage()));
+        }
+        logger.error("Chat request failed", cause);
+        return ResponseEntity.status(500)
+                .body(Collections.singletonMap("error", "Internal Server Error: " + cause.getMessage()));
     }
 
     /**
      * Handle symptom-based AI response - parse JSON safely and fetch hospitals
      */
-    private ResponseEntity<?> handleSymptomResponse(String aiResponse, Double userLat, Double userLng) {
+    private ResponseEntity<?> handleSymptomResponse(String aiResponse, ChatRequest request,
+            Nearby nearby, boolean cacheAnalysis) {
+        Map<String, Object> parsed = parseSymptomAnalysis(aiResponse);
+        if (parsed == null) {
+            // Couldn't extract a specialization match, return as normal text
+            return returnAsNormalText(aiResponse);
+        }
+        if (cacheAnalysis) {
+            symptomResponseCache.put(lastMessageContent(request), request.getLanguage(), parsed);
+        }
+        return symptomResult(parsed, request.getLatitude(), request.getLongitude(), nearby);
+    }
+
+    /** The model's specialization_match JSON, or null if the reply isn't one. */
+    private Map<String, Object> parseSymptomAnalysis(String aiResponse) {
         try {
             // Clean the response - extract JSON if wrapped in text
             String jsonContent = extractJson(aiResponse);
             if (jsonContent == null) {
-                // Couldn't extract JSON, return as normal text
-                return returnAsNormalText(aiResponse);
+                return null;
             }
 
             // Parse JSON safely
@@ -236,89 +465,67 @@ public class ChatController {
 
             // Validate it has the expected type
             if (!"specialization_match".equals(parsed.get("type"))) {
-                return returnAsNormalText(aiResponse);
+                return null;
             }
+            return parsed;
+        } catch (Exception e) {
+            logger.warn("Failed to parse symptom JSON: {}", e.getMessage());
+            return null;
+        }
+    }
 
-            // Extract specializations and normalize
-            @SuppressWarnings("unchecked")
-            List<String> specializations = (List<String>) parsed.get("specializations");
-            if (specializations == null || specializations.isEmpty()) {
-                specializations = Arrays.asList("General Medicine");
-            }
+    /** Specialization match plus hospital cards ranked for the user's position. */
+    private ResponseEntity<?> symptomResult(Map<String, Object> parsed, Double userLat, Double userLng) {
+        return symptomResult(parsed, userLat, userLng, null);
+    }
 
-            // Normalize specializations for DB query
-            List<String> normalizedSpecs = normalizeSpecializations(specializations);
-            System.out.println("Normalized specializations: " + normalizedSpecs);
-
-            // Fetch hospitals by specializations
-            List<Clinic> clinics = clinicRepository.findBySpecializationsIn(normalizedSpecs);
-
-            // Sort by distance if user location is available
-            List<Clinic> sortedClinics;
-            if (userLat != null && userLng != null) {
-                System.out.println("Sorting hospitals by distance from user location: " + userLat + ", " + userLng);
-                sortedClinics = clinics.stream()
-                        .sorted((c1, c2) -> {
-                            double dist1 = calculateDistance(userLat, userLng,
-                                    c1.getLatitude() != null ? c1.getLatitude() : 0,
-                                    c1.getLongitude() != null ? c1.getLongitude() : 0);
-                            double dist2 = calculateDistance(userLat, userLng,
-                                    c2.getLatitude() != null ? c2.getLatitude() : 0,
-                                    c2.getLongitude() != null ? c2.getLongitude() : 0);
-                            return Double.compare(dist1, dist2);
-                        })
-                        .limit(MAX_HOSPITAL_RESULTS)
-                        .collect(Collectors.toList());
-            } else {
-                // Fallback: sort by rating if no location
-                sortedClinics = clinics.stream()
-                        .limit(MAX_HOSPITAL_RESULTS)
-                        .collect(Collectors.toList());
-            }
+    /** As above; with {@code nearby} set, hospitals are ranked within that prefetched set. */
+    private ResponseEntity<?> symptomResult(Map<String, Object> parsed, Double userLat, Double userLng,
+            Nearby nearby) {
+        // Extract specializations and normalize
+        @SuppressWarnings("unchecked")
+        List<String> specializations = (List<String>) parsed.get("specializations");
+        if (specializations == null || specializations.isEmpty()) {
+            specializations = Arrays.asList("General Medicine");
+        }
 
-            // Build hospital cards with distance info
-            List<Map<String, Object>> hospitalList = new ArrayList<>();
-            for (Clinic clinic : sortedClinics) {
-                Map<String, Object> hospital = new HashMap<>();
-                hospital.put("id", clinic.getId());
-                hospital.put("name", clinic.getName());
-                hospital.put("imageUrl", clinic.getImageUrl() != null ? clinic.getImageUrl() : "");
-                hospital.put("city", clinic.getCity());
-                hospital.put("rating", clinic.getRating() != null ? clinic.getRating() : 0.0);
-                hospital.put("address", clinic.getAddress() != null ? clinic.getAddress() : "");
-                hospital.put("latitude", clinic.getLatitude());
-                hospital.put("longitude", clinic.getLongitude());
-
-                // Add distance if location is available
-                if (userLat != null && userLng != null && clinic.getLatitude() != null
-                        && clinic.getLongitude() != null) {
-                    double distance = calculateDistance(userLat, userLng, clinic.getLatitude(), clinic.getLongitude());
-                    hospital.put("distance", Math.round(distance * 10.0) / 10.0); // Round to 1 decimal
-                }
+        // Normalize specializations for DB query
+        List<String> normalizedSpecs = normalizeSpecializations(specializations);
+        logger.debug("Normalized specializations: {}", normalizedSpecs);
 
-                hospitalList.add(hospital);
-            }
+        // Rank hospitals by specialization match, rating and (if known) distance
+        List<RankedClinic> rankedClinics = nearby != null
+                ? clinicRankingService.rank(nearby, normalizedSpecs, MAX_HOSPITAL_RESULTS)
+                : clinicRankingService.rank(null, null, normalizedSpecs, userLat, userLng, MAX_HOSPITAL_RESULTS);
 
-            // Build response
-            Map<String, Object> result = new HashMap<>();
-            result.put("type", "specialization_match");
-            result.put("symptom", parsed.get("symptom"));
-            result.put("inferredIssue", parsed.get("inferred_issue"));
-            result.put("specializations", specializations);
-            result.put("confidence", parsed.get("confidence"));
-            result.put("disclaimer", parsed.get("disclaimer") != null
-                    ? parsed.get("disclaimer")
-                    : "This is not a medical diagnosis. Please consult a qualified doctor.");
-            result.put("hospitals", hospitalList);
-            result.put("reply", buildSymptomReplyMessage(parsed, sortedClinics.size()));
+        // Build hospital cards with distance info
+        List<Map<String, Object>> hospitalList = new ArrayList<>();
+        for (RankedClinic ranked : rankedClinics) {
+            Map<String, Object> hospital = toHospitalCard(ranked.entry());
 
-            return ResponseEntity.ok(result);
+            // Add distance if location is available
+            if (ranked.distance() != null) {
+                hospital.put("distance", Math.round(ranked.distance() * 10.0) / 10.0); // Round to 1 decimal
+            }
 
-        } catch (Exception e) {
-            System.err.println("Failed to parse symptom JSON: " + e.getMessage());
-            // Fall back to normal text response
-            return returnAsNormalText(aiResponse);
+            hospitalList.add(hospital);
         }
+
+        // Build response
+        Map<String, Object> result = new HashMap<>();
+        result.put("type", "specialization_match");
+        result.put("symptom", parsed.get("symptom"));
+        result.put("inferredIssue", parsed.get("inferred_issue"));
+        result.put("specializations", specializations);
+        result.put("confidence", parsed.get("confidence"));
+        result.put("disclaimer", parsed.get("disclaimer") != null
+                ? parsed.get("disclaimer")
+                : "This is not a medical diagnosis. Please consult a qualified doctor.");
+        result.put("hospitals", hospitalList);
+        result.put("source", parsed.getOrDefault("source", "llm"));
+        result.put("reply", buildSymptomReplyMessage(parsed, specializations, rankedClinics.size()));
+
+        return ResponseEntity.ok(result);
     }
 
     /**
@@ -379,11 +586,9 @@ public class ChatController {
     /**
      * Build friendly reply message for symptom match
      */
-    private String buildSymptomReplyMessage(Map<String, Object> parsed, int hospitalCount) {
+    private String buildSymptomReplyMessage(Map<String, Object> parsed, List<String> specs, int hospitalCount) {
         String symptom = (String) parsed.get("symptom");
         String issue = (String) parsed.get("inferred_issue");
-        @SuppressWarnings("unchecked")
-        List<String> specs = (List<String>) parsed.get("specializations");
 
         StringBuilder sb = new StringBuilder();
         sb.append("Based on your symptoms (").append(symptom != null ? symptom : "described issue").append("), ");
@@ -413,7 +618,8 @@ public class ChatController {
      * Handle explicit hospital city search
      */
     private ResponseEntity<?> handleHospitalCitySearch(String placeName) {
-        List<Clinic> clinics = clinicRepository.findByCityIgnoreCase(placeName);
+        List<RankedClinic> clinics = clinicRankingService.rank(null, placeName, null, null, null,
+                MAX_HOSPITAL_RESULTS);
 
         if (clinics.isEmpty()) {
             // Fuzzy search for city names
@@ -438,33 +644,34 @@ public class ChatController {
             return ResponseEntity.ok(response);
         }
 
-        // Limit results
-        List<Clinic> limitedClinics = clinics.stream()
-                .limit(MAX_HOSPITAL_RESULTS)
-                .collect(Collectors.toList());
-
         // Build hospital cards response
-        List<Map<String, Object>> hospitalList = new ArrayList<>();
-        for (Clinic clinic : limitedClinics) {
-            Map<String, Object> hospital = new HashMap<>();
-            hospital.put("id", clinic.getId());
-            hospital.put("name", clinic.getName());
-            hospital.put("imageUrl", clinic.getImageUrl() != null ? clinic.getImageUrl() : "");
-            hospital.put("city", clinic.getCity());
-            hospital.put("rating", clinic.getRating() != null ? clinic.getRating() : 0.0);
-            hospital.put("address", clinic.getAddress() != null ? clinic.getAddress() : "");
-            hospital.put("latitude", clinic.getLatitude());
-            hospital.put("longitude", clinic.getLongitude());
-            hospitalList.add(hospital);
-        }
+        List<Map<String, Object>> hospitalList = clinics.stream()
+                .map(ranked -> toHospitalCard(ranked.entry()))
+                .collect(Collectors.toList());
 
         Map<String, Object> response = new HashMap<>();
         response.put("type", "hospitals");
         response.put("hospitals", hospitalList);
-        response.put("reply", "Found " + limitedClinics.size() + " hospital(s) in " + placeName + ":");
+        response.put("reply", "Found " + clinics.size() + " hospital(s) in " + placeName + ":");
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Build the hospital card shown in chat results
+     */
+    private Map<String, Object> toHospitalCard(ClinicIndex.Entry clinic) {
+        Map<String, Object> hospital = new HashMap<>();
+        hospital.put("id", clinic.id());
+        hospital.put("name", clinic.name());
+        hospital.put("imageUrl", clinic.imageUrl() != null ? clinic.imageUrl() : "");
+        hospital.put("city", clinic.city());
+        hospital.put("rating", clinic.rating() != null ? clinic.rating() : 0.0);
+        hospital.put("address", clinic.address() != null ? clinic.address() : "");
+        hospital.put("latitude", clinic.latitude());
+        hospital.put("longitude", clinic.longitude());
+        return hospital;
+    }
+
     // Helper method to map language codes to full language names
     private String getLanguageName(String langCode) {
         Map<String, String> languageNames = new HashMap<>();
@@ -488,28 +695,6 @@ public class ChatController {
         return languageNames.getOrDefault(langCode, "English");
     }
 
-    /**
-     * Calculate distance between two points using Haversine formula
-     * 
-     * @param lat1 Latitude of point 1
-     * @param lon1 Longitude of point 1
-     * @param lat2 Latitude of point 2
-     * @param lon2 Longitude of point 2
-     * @return Distance in kilometers
-     */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS = 6371; // Earth radius in kilometers
-
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c;
-    }
-
     /**
      * Calculate Levenshtein distance for fuzzy string matching
      */
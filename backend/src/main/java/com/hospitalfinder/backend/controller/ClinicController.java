@@ -1,24 +1,40 @@
 package com.hospitalfinder.backend.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hospitalfinder.backend.config.BinaryFormats;
+import com.hospitalfinder.backend.dto.ClinicFacetsDTO;
+import com.hospitalfinder.backend.dto.ClinicPageDTO;
+import com.hospitalfinder.backend.dto.LeaderboardDTO;
 import com.hospitalfinder.backend.dto.ClinicRequestDTO;
 import com.hospitalfinder.backend.dto.ClinicResponseDTO;
 import com.hospitalfinder.backend.dto.ClinicSummaryDTO;
 import com.hospitalfinder.backend.dto.NearbyClinicDTO;
-import com.hospitalfinder.backend.entity.Clinic;
 import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.service.CatalogVersion;
+import com.hospitalfinder.backend.service.ClinicCardJsonCache;
+import com.hospitalfinder.backend.service.ClinicDetailService;
+import com.hospitalfinder.backend.service.ClinicIndex;
+import com.hospitalfinder.backend.service.ClinicRankingService;
 import com.hospitalfinder.backend.service.ClinicService;
+import com.hospitalfinder.backend.service.LeaderboardService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,66 +45,126 @@ public class ClinicController {
 
     private final ClinicService clinicService;
     private final ClinicRepository clinicRepository;
+    private final ClinicRankingService clinicRankingService;
+    private final CatalogVersion catalogVersion;
+    private final ClinicCardJsonCache clinicCardJsonCache;
+    private final ClinicDetailService clinicDetailService;
+    private final LeaderboardService leaderboardService;
 
+    @Value("${catalog.batch.max-ids:500}")
+    private int maxBatchIds;
+
+    /**
+     * Clinic cards as JSON, or as CBOR / Protobuf when the {@code Accept}
+     * header asks for it; binary bodies are encoded from the same DTOs.
+     */
     @GetMapping
-    public List<ClinicSummaryDTO> getClinics(
+    public ResponseEntity<?> getClinics(
             @RequestParam(required = false) String city,
             @RequestParam(required = false) List<String> spec,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Double lat,
-            @RequestParam(required = false) Double lng) {
-        return clinicService.getFilteredClinics(city, spec, search, lat, lng);
+            @RequestParam(required = false) Double lng,
+            @RequestHeader(value = "Accept", required = false) String accept,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        MediaType binary = BinaryFormats.negotiate(accept);
+        String etag = catalogVersion.etag("clinics" + BinaryFormats.suffix(binary));
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        List<ClinicIndex.Hit> clinics = clinicService.getFilteredClinics(city, spec, search, lat, lng);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .varyBy(HttpHeaders.ACCEPT);
+        if (binary != null) {
+            return response.contentType(binary).body(clinics.stream()
+                    .map(hit -> new ClinicSummaryDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                    .collect(Collectors.toList()));
+        }
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(clinicCardJsonCache.writeList(ClinicCardJsonCache.Card.SUMMARY, clinics));
     }
 
-    @GetMapping("/nearby")
-    public ResponseEntity<?> getNearbyClinics(
-            @RequestParam double lat,
-            @RequestParam double lng,
+    @GetMapping("/facets")
+    public ResponseEntity<ClinicFacetsDTO> getFacets(
             @RequestParam(required = false) String city,
-            @RequestParam(required = false) String specialization) {
-        List<Clinic> clinics;
-
-        // Get clinics within 5km (nearby clinics)
-        clinics = clinicRepository.findNearestClinics(lat, lng);
-
-        // Apply city filter if specified
-        if (city != null && !city.isEmpty()) {
-            clinics = clinics.stream()
-                    .filter(clinic -> clinic.getCity() != null &&
-                            clinic.getCity().toLowerCase().contains(city.toLowerCase()))
-                    .collect(Collectors.toList());
+            @RequestParam(required = false) List<String> spec,
+            @RequestParam(required = false) String search,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("facets");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
         }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(clinicService.getFacets(city, spec, search));
+    }
 
-        // Apply specialization filter if specified
-        if (specialization != null && !specialization.isEmpty()) {
-            clinics = clinics.stream()
-                    .filter(clinic -> clinic.getSpecializations().stream()
-                            .anyMatch(spec -> spec.getSpecialization().toLowerCase()
-                                    .contains(specialization.toLowerCase())))
-                    .collect(Collectors.toList());
+    /**
+     * Relevance-ranked search: one weighted score over text, specialization
+     * match, rating, review count and distance instead of per-endpoint sorts.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchClinics(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) List<String> spec,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        List<ClinicIndex.Hit> clinics = clinicRankingService.rank(q, city, spec, lat, lng, limit).stream()
+                .map(ranked -> new ClinicIndex.Hit(ranked.entry(), ranked.distance(), ranked.estimatedTime()))
+                .collect(Collectors.toList());
+        MediaType binary = BinaryFormats.negotiate(accept);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (binary != null) {
+            return response.contentType(binary).body(clinics.stream()
+                    .map(hit -> new ClinicSummaryDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                    .collect(Collectors.toList()));
         }
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(clinicCardJsonCache.writeList(ClinicCardJsonCache.Card.SUMMARY, clinics));
+    }
 
-        List<NearbyClinicDTO> nearbyClinics = clinics.stream()
-                .map(clinic -> {
-                    double distance = calculateDistance(lat, lng, clinic.getLatitude(), clinic.getLongitude());
-                    // Estimate time with variable speed based on distance:
-                    // - Short distances (< 5km): 20 km/h average (more stops, slower roads)
-                    // - Medium distances (5-20km): 30 km/h average
-                    // - Longer distances (> 20km): 40 km/h average (highways, fewer stops)
-                    double speed;
-                    if (distance < 5) {
-                        speed = 20.0;
-                    } else if (distance < 20) {
-                        speed = 30.0;
-                    } else {
-                        speed = 40.0;
-                    }
-                    int estimatedTime = (int) Math.round(distance / speed * 60);
-                    return new NearbyClinicDTO(clinic, distance, estimatedTime);
-                })
-                .collect(Collectors.toList());
+    /** Top clinics for a city and specialization, served from the precomputed boards. */
+    @GetMapping("/leaderboard")
+    public ResponseEntity<LeaderboardDTO> getLeaderboard(
+            @RequestParam String city,
+            @RequestParam String spec,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = "\"leaderboard-" + leaderboardService.version() + "\"";
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        LeaderboardDTO board = leaderboardService.getLeaderboard(city, spec, limit);
+        return ResponseEntity.ok()
+                .eTag("\"leaderboard-" + board.getVersion() + "\"")
+                .cacheControl(catalogVersion.cacheControl())
+                .body(board);
+    }
 
-        return ResponseEntity.ok(nearbyClinics);
+    @GetMapping("/nearby")
+    public ResponseEntity<?> getNearbyClinics(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String specialization,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        // Clinics within 5km (nearby clinics), nearest first
+        List<ClinicIndex.Hit> clinics = clinicService.getNearbyClinics(lat, lng, city, specialization);
+        MediaType binary = BinaryFormats.negotiate(accept);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (binary != null) {
+            return response.contentType(binary).body(clinics.stream()
+                    .map(hit -> new NearbyClinicDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                    .collect(Collectors.toList()));
+        }
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(clinicCardJsonCache.writeList(ClinicCardJsonCache.Card.NEARBY, clinics));
     }
 
     @GetMapping("/sorted-by-distance")
@@ -97,135 +173,80 @@ public class ClinicController {
             @RequestParam double lng,
             @RequestParam(required = false) String city,
             @RequestParam(required = false) List<String> spec,
-            @RequestParam(required = false) String search) {
-        List<Clinic> clinics;
-
-        // Get all clinics ordered by distance
-        clinics = clinicRepository.findAllClinicsOrderedByDistance(lat, lng);
-
-        // Apply city filter if specified
-        if (city != null && !city.isEmpty()) {
-            clinics = clinics.stream()
-                    .filter(clinic -> clinic.getCity() != null &&
-                            clinic.getCity().equalsIgnoreCase(city))
-                    .collect(Collectors.toList());
-        }
-
-        // Normalize specialization filters (multi-select) for matching
-        List<String> normalizedSpecs = spec == null ? List.of()
-                : spec.stream()
-                        .filter(s -> s != null && !s.isBlank())
-                        .map(String::toLowerCase)
-                        .collect(Collectors.toList());
-
-        // Apply search filter if specified
-        if (search != null && !search.isEmpty()) {
-            String searchLower = search.toLowerCase();
-            clinics = clinics.stream()
-                    .filter(clinic -> clinic.getName().toLowerCase().contains(searchLower) ||
-                            (clinic.getAddress() != null && clinic.getAddress().toLowerCase().contains(searchLower)))
-                    .collect(Collectors.toList());
-        }
-
-        // Build list with distance + match count, filter out non-matching when specs
-        // provided
-        record ClinicDistance(Clinic clinic, double distance, int estimatedTime, int matchCount) {
+            @RequestParam(required = false) String search,
+            @RequestHeader(value = "Accept", required = false) String accept) {
+        List<ClinicIndex.Hit> clinics = clinicService.getClinicsSortedByDistance(lat, lng, city, spec, search);
+        MediaType binary = BinaryFormats.negotiate(accept);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (binary != null) {
+            return response.contentType(binary).body(clinics.stream()
+                    .map(hit -> new NearbyClinicDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                    .collect(Collectors.toList()));
         }
-
-        List<ClinicDistance> enriched = clinics.stream()
-                .map(clinic -> {
-                    double distance = calculateDistance(lat, lng, clinic.getLatitude(), clinic.getLongitude());
-                    // Estimate time with variable speed based on distance:
-                    // - Short distances (< 5km): 20 km/h average (more stops, slower roads)
-                    // - Medium distances (5-20km): 30 km/h average
-                    // - Longer distances (> 20km): 40 km/h average (highways, fewer stops)
-                    double speed;
-                    if (distance < 5) {
-                        speed = 20.0;
-                    } else if (distance < 20) {
-                        speed = 30.0;
-                    } else {
-                        speed = 40.0;
-                    }
-                    int estimatedTime = (int) Math.round(distance / speed * 60);
-                    int matchCount = getMatchCount(clinic, normalizedSpecs);
-                    return new ClinicDistance(clinic, distance, estimatedTime, matchCount);
-                })
-                .filter(cd -> normalizedSpecs.isEmpty() || cd.matchCount > 0)
-                .collect(Collectors.toList());
-
-        // Sort: when specs provided -> matchCount desc then distance asc; otherwise
-        // distance asc
-        enriched.sort((a, b) -> {
-            if (!normalizedSpecs.isEmpty()) {
-                int cmp = Integer.compare(b.matchCount, a.matchCount);
-                if (cmp != 0)
-                    return cmp;
-            }
-            return Double.compare(a.distance, b.distance);
-        });
-
-        List<NearbyClinicDTO> sortedClinics = enriched.stream()
-                .map(cd -> new NearbyClinicDTO(cd.clinic, cd.distance, cd.estimatedTime))
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(sortedClinics);
+        return response.contentType(MediaType.APPLICATION_JSON)
+                .body(clinicCardJsonCache.writeList(ClinicCardJsonCache.Card.NEARBY, clinics));
     }
 
     @GetMapping("/id")
-    public ResponseEntity<?> getClinicById(@RequestParam(required = true) Long id) {
+    public ResponseEntity<?> getClinicById(@RequestParam(required = true) Long id,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("clinic-" + id);
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
         return clinicRepository.findById(id)
-                .map(clinic -> ResponseEntity.ok(clinicService.getClinicById(id)))
+                .map(clinic -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(catalogVersion.cacheControl())
+                        .body(clinicService.getClinicById(id)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @PostMapping
-    public ResponseEntity<ClinicResponseDTO> createClinic(@RequestBody ClinicRequestDTO request) {
-        ClinicResponseDTO created = clinicService.createClinic(request);
-        return ResponseEntity.ok(created);
-    }
-
-    @DeleteMapping("/id")
-    public ResponseEntity<?> deleteClinic(@RequestParam(required = true) Long id) {
-        return clinicRepository.findById(id)
-                .map(clinic -> {
-                    clinicRepository.deleteById(id);
-                    return ResponseEntity.ok("Clinic deleted successfully");
-                })
+    /**
+     * Hospital page in one round trip: clinic with doctors, review summary and
+     * free slots for {@code date} (default today). Parts that miss the deadline
+     * are listed in {@code missing}.
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<ClinicPageDTO> getClinicPage(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return clinicDetailService.getClinicPage(id, date != null ? date : LocalDate.now())
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
-     * Calculate distance between two points using Haversine formula
-     * 
-     * @param lat1 Latitude of point 1
-     * @param lon1 Longitude of point 1
-     * @param lat2 Latitude of point 2
-     * @param lon2 Longitude of point 2
-     * @return Distance in kilometers
+     * Multi-get: {@code ?ids=3,1,7} returns those clinics in request order in
+     * one round trip. Unknown ids are skipped.
      */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS = 6371; // Earth radius in kilometers
-
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS * c;
+    @GetMapping("/batch")
+    public ResponseEntity<?> getClinicsByIds(@RequestParam List<Long> ids,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        if (ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchIds + " ids per request");
+        }
+        String etag = catalogVersion.etag("clinics-batch");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(clinicService.getClinicsByIds(ids));
     }
 
-    private int getMatchCount(Clinic clinic, List<String> normalizedSpecs) {
-        if (normalizedSpecs == null || normalizedSpecs.isEmpty())
-            return 0;
+    @PostMapping
+    public ResponseEntity<ClinicResponseDTO> createClinic(@RequestBody ClinicRequestDTO request) {
+        ClinicResponseDTO created = clinicService.createClinic(request);
+        return ResponseEntity.ok(created);
+    }
 
-        return (int) clinic.getSpecializations().stream()
-                .map(s -> s.getSpecialization())
-                .filter(spec -> spec != null && !spec.isBlank())
-                .map(String::toLowerCase)
-                .filter(normalizedSpecs::contains)
-                .count();
+    @DeleteMapping("/id")
+    public ResponseEntity<?> deleteClinic(@RequestParam(required = true) Long id) {
+        if (!clinicService.deleteClinic(id)) {
+            return ResponseEntity.notFound().build();
+        }
+        clinicCardJsonCache.evict(id);
+        return ResponseEntity.ok("Clinic deleted successfully");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package com.hospitalfinder.backend.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospitalfinder.backend.dto.ClinicImportReport;
+import com.hospitalfinder.backend.service.ClinicImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/clinics/import")
+@RequiredArgsConstructor
+public class ClinicImportController {
+
+    private final ClinicImportService clinicImportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Bulk import from a CSV (with header row) or NDJSON body. The response is
+     * NDJSON: one progress report per committed chunk, the last line being the
+     * final report with {@code "done":true}.
+     */
+    @PostMapping(consumes = { "text/csv", "application/x-ndjson" })
+    public void importClinics(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ClinicImportService.Format format = request.getContentType().startsWith("text/csv")
+                ? ClinicImportService.Format.CSV
+                : ClinicImportService.Format.NDJSON;
+
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        PrintWriter out = response.getWriter();
+        Consumer<ClinicImportReport> progress = report -> {
+            try {
+                out.write(objectMapper.writeValueAsString(report));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+            out.write('\n');
+            // Flush per chunk so long imports show progress and keep the connection busy
+            out.flush();
+        };
+
+        BufferedReader reader = new BufferedReader(
+                new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        ClinicImportReport report = clinicImportService.importClinics(reader, format, progress);
+        progress.accept(report);
+    }
+}
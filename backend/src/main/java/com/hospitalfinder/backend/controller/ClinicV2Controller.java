@@ -0,0 +1,123 @@
+package com.hospitalfinder.backend.controller;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hospitalfinder.backend.dto.ClinicCardV2DTO;
+import com.hospitalfinder.backend.dto.ClinicDetailV2DTO;
+import com.hospitalfinder.backend.dto.SparseFields;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
+import com.hospitalfinder.backend.service.CatalogVersion;
+import com.hospitalfinder.backend.service.ClinicIndex;
+import com.hospitalfinder.backend.service.ClinicRankingService;
+import com.hospitalfinder.backend.service.ClinicService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * v2 of the clinic read endpoints: same filters as v1, compact DTOs, and an
+ * optional {@code fields=} selector (comma-separated property names).
+ */
+@RestController
+@RequestMapping("/api/v2/clinics")
+@RequiredArgsConstructor
+public class ClinicV2Controller {
+
+    private final ClinicService clinicService;
+    private final ClinicRankingService clinicRankingService;
+    private final ClinicRepository clinicRepository;
+    private final DoctorRepository doctorRepository;
+    private final CatalogVersion catalogVersion;
+
+    @GetMapping
+    public ResponseEntity<MappingJacksonValue> getClinics(
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) List<String> spec,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("v2-clinics");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        List<ClinicIndex.Hit> clinics = clinicService.getFilteredClinics(city, spec, search, lat, lng);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(SparseFields.select(toCards(clinics), fields));
+    }
+
+    @GetMapping("/nearby")
+    public MappingJacksonValue getNearbyClinics(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String specialization,
+            @RequestParam(required = false) String fields) {
+        return SparseFields.select(toCards(clinicService.getNearbyClinics(lat, lng, city, specialization)), fields);
+    }
+
+    @GetMapping("/sorted-by-distance")
+    public MappingJacksonValue getAllClinicsSortedByDistance(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) List<String> spec,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String fields) {
+        return SparseFields.select(
+                toCards(clinicService.getClinicsSortedByDistance(lat, lng, city, spec, search)), fields);
+    }
+
+    @GetMapping("/search")
+    public MappingJacksonValue searchClinics(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) List<String> spec,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String fields) {
+        List<ClinicCardV2DTO> cards = clinicRankingService.rank(q, city, spec, lat, lng, limit).stream()
+                .map(ranked -> new ClinicCardV2DTO(
+                        new ClinicIndex.Hit(ranked.entry(), ranked.distance(), ranked.estimatedTime())))
+                .collect(Collectors.toList());
+        return SparseFields.select(cards, fields);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<MappingJacksonValue> getClinic(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("v2-clinic-" + id);
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        return clinicRepository.findById(id)
+                .map(clinic -> ResponseEntity.ok()
+                        .eTag(etag)
+                        .cacheControl(catalogVersion.cacheControl())
+                        .body(SparseFields.select(
+                                new ClinicDetailV2DTO(clinic, doctorRepository.findByClinicId(id)), fields)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private List<ClinicCardV2DTO> toCards(List<ClinicIndex.Hit> hits) {
+        return hits.stream()
+                .map(ClinicCardV2DTO::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,23 +1,30 @@
 package com.hospitalfinder.backend.controller;
 
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.hospitalfinder.backend.entity.Clinic;
 import com.hospitalfinder.backend.entity.Doctor;
-import com.hospitalfinder.backend.repository.ClinicRepository;
 import com.hospitalfinder.backend.repository.DoctorRepository;
+import com.hospitalfinder.backend.service.CatalogVersion;
+import com.hospitalfinder.backend.service.DoctorService;
 
 @RestController
 @RequestMapping("/api")
@@ -25,44 +32,86 @@ import com.hospitalfinder.backend.repository.DoctorRepository;
 public class DoctorController {
 
     private final DoctorRepository doctorRepository;
-    private final ClinicRepository clinicRepository;
+    private final CatalogVersion catalogVersion;
+    private final DoctorService doctorService;
 
-    public DoctorController(DoctorRepository doctorRepository, ClinicRepository clinicRepository) {
+    @Value("${catalog.batch.max-ids:500}")
+    private int maxBatchIds;
+
+    public DoctorController(DoctorRepository doctorRepository, CatalogVersion catalogVersion,
+            DoctorService doctorService) {
         this.doctorRepository = doctorRepository;
-        this.clinicRepository = clinicRepository;
+        this.catalogVersion = catalogVersion;
+        this.doctorService = doctorService;
     }
 
     @PostMapping("/clinics/{clinicId}/doctors")
     public ResponseEntity<?> addDoctorToClinic(@PathVariable Long clinicId, @RequestBody Doctor doctor) {
-        Optional<Clinic> clinicOpt = clinicRepository.findById(clinicId);
-        if (clinicOpt.isEmpty()) {
+        Optional<Doctor> savedDoctor = doctorService.addDoctor(clinicId, doctor);
+        if (savedDoctor.isEmpty()) {
             return ResponseEntity.badRequest().body("Clinic not found");
         }
-        doctor.setClinic(clinicOpt.get());
-        Doctor savedDoctor = doctorRepository.save(doctor);
-        return ResponseEntity.ok(savedDoctor);
+        return ResponseEntity.ok(savedDoctor.get());
     }
 
 
     @GetMapping("/clinics/{clinicId}/doctors")
     public ResponseEntity<?> getDoctorsByClinicAndSpecialization(
             @PathVariable Long clinicId,
-            @RequestParam(required = false) String specialization) {
+            @RequestParam(required = false) String specialization,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("clinic-" + clinicId + "-doctors");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
         List<Doctor> doctors;
         if (specialization != null && !specialization.isEmpty()) {
             doctors = doctorRepository.findByClinicIdAndSpecializationIgnoreCase(clinicId, specialization);
         } else {
             doctors = doctorRepository.findByClinicId(clinicId);
         }
-        return ResponseEntity.ok(doctors);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(doctors);
+    }
+
+    /**
+     * Multi-get: {@code ?ids=12,4} returns those doctors in request order with a
+     * single IN query. Unknown ids are skipped.
+     */
+    @GetMapping("/doctors/batch")
+    public ResponseEntity<?> getDoctorsByIds(@RequestParam List<Long> ids,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        if (ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchIds + " ids per request");
+        }
+        String etag = catalogVersion.etag("doctors-batch");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        LinkedHashSet<Long> wanted = new LinkedHashSet<>(ids);
+        wanted.remove(null);
+        Map<Long, Doctor> found = doctorRepository.findAllById(wanted).stream()
+                .collect(Collectors.toMap(Doctor::getId, Function.identity()));
+        List<Doctor> doctors = new ArrayList<>(found.size());
+        for (Long id : wanted) {
+            Doctor doctor = found.get(id);
+            if (doctor != null) {
+                doctors.add(doctor);
+            }
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(doctors);
     }
 
     @DeleteMapping("/doctors/{doctorId}")
     public ResponseEntity<?> deleteDoctor(@PathVariable Long doctorId) {
-        if (!doctorRepository.existsById(doctorId)) {
+        if (!doctorService.deleteDoctor(doctorId)) {
             return ResponseEntity.notFound().build();
         }
-        doctorRepository.deleteById(doctorId);
         return ResponseEntity.ok("Doctor deleted successfully");
     }
 
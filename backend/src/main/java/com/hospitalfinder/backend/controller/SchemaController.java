@@ -0,0 +1,43 @@
+package com.hospitalfinder.backend.controller;
+
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hospitalfinder.backend.config.ProtobufSchemas;
+import com.hospitalfinder.backend.dto.AppointmentResponseDTO;
+import com.hospitalfinder.backend.dto.ClinicSummaryDTO;
+import com.hospitalfinder.backend.dto.NearbyClinicDTO;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/schemas")
+@RequiredArgsConstructor
+public class SchemaController {
+
+    // List payloads that can be requested as application/x-protobuf
+    private static final Map<String, Class<?>> LIST_TYPES = Map.of(
+            "clinics", ClinicSummaryDTO.class,
+            "clinics-by-distance", NearbyClinicDTO.class,
+            "appointments", AppointmentResponseDTO.class);
+
+    private final ProtobufSchemas protobufSchemas;
+
+    /** Generated {@code .proto} for a list payload, e.g. {@code /api/schemas/clinics.proto}. */
+    @GetMapping("/{name}.proto")
+    public ResponseEntity<String> getProto(@PathVariable String name) {
+        Class<?> type = LIST_TYPES.get(name);
+        if (type == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(protobufSchemas.listSchema(type).getSource().toString());
+    }
+}
@@ -2,8 +2,11 @@ package com.hospitalfinder.backend.controller;
 
 import com.hospitalfinder.backend.entity.Specialization;
 import com.hospitalfinder.backend.repository.SpecializationRepository;
+import com.hospitalfinder.backend.service.CatalogVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,10 +17,19 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SpecializationController {
     private final SpecializationRepository specializationRepository;
+    private final CatalogVersion catalogVersion;
 
     @GetMapping
-    public List<Specialization> getAll() {
-        return specializationRepository.findAll();
+    public ResponseEntity<List<Specialization>> getAll(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        String etag = catalogVersion.etag("specializations");
+        if (catalogVersion.isNotModified(ifNoneMatch, etag)) {
+            return catalogVersion.notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(catalogVersion.cacheControl())
+                .body(specializationRepository.findAll());
     }
 }
 
@@ -0,0 +1,29 @@
+package com.hospitalfinder.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.hospitalfinder.backend.dto.SyncChangesDTO;
+import com.hospitalfinder.backend.service.SyncService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Catalog changes after {@code since} (0 for a first full sync): clinic,
+     * doctor and specialization upserts plus tombstones for deletions.
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<SyncChangesDTO> getChanges(@RequestParam(defaultValue = "0") long since) {
+        return ResponseEntity.ok(syncService.changesSince(since));
+    }
+}
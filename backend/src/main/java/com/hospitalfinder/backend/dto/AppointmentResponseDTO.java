@@ -1,5 +1,6 @@
 package com.hospitalfinder.backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hospitalfinder.backend.entity.Appointment;
 
 import lombok.Getter;
@@ -9,23 +10,24 @@ import lombok.Setter;
 @Setter
 public class AppointmentResponseDTO {
 
-    private Long id;
-    private Long clinicId;
-    private String clinicName;
-    private Long doctorId;
-    private String doctorName;
-    private String doctorSpecialization;
-    private Long userId;
-    private String userName;
-    private String appointmentTime;
-    private String status;
+    // Indexes are the Protobuf field numbers (see ProtobufSchemas): append new fields, never renumber
+    @JsonProperty(index = 1) private Long id;
+    @JsonProperty(index = 2) private Long clinicId;
+    @JsonProperty(index = 3) private String clinicName;
+    @JsonProperty(index = 4) private Long doctorId;
+    @JsonProperty(index = 5) private String doctorName;
+    @JsonProperty(index = 6) private String doctorSpecialization;
+    @JsonProperty(index = 7) private Long userId;
+    @JsonProperty(index = 8) private String userName;
+    @JsonProperty(index = 9) private String appointmentTime;
+    @JsonProperty(index = 10) private String status;
 
-    private String patientName;
-    private Integer patientAge;
-    private String patientGender;
-    private String patientEmail;
-    private String patientPhone;
-    private String reason;
+    @JsonProperty(index = 11) private String patientName;
+    @JsonProperty(index = 12) private Integer patientAge;
+    @JsonProperty(index = 13) private String patientGender;
+    @JsonProperty(index = 14) private String patientEmail;
+    @JsonProperty(index = 15) private String patientPhone;
+    @JsonProperty(index = 16) private String reason;
 
     public AppointmentResponseDTO(Appointment appointment) {
         this.id = appointment.getId();
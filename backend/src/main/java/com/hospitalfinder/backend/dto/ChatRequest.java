@@ -4,6 +4,8 @@ import java.util.List;
 
 public class ChatRequest {
     private List<Message> messages;
+    // Server-side history to continue; when set, messages only needs the new turn
+    private String conversationId;
     private String language;
     private Double latitude;
     private Double longitude;
@@ -16,6 +18,14 @@ public class ChatRequest {
         this.messages = messages;
     }
 
+    public String getConversationId() {
+        return conversationId;
+    }
+
+    public void setConversationId(String conversationId) {
+        this.conversationId = conversationId;
+    }
+
     public String getLanguage() {
         return language;
     }
@@ -0,0 +1,49 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hospitalfinder.backend.service.ClinicIndex;
+
+import lombok.Getter;
+
+/**
+ * Compact clinic card for v2 list endpoints: short property names, each value
+ * once, nulls omitted.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(SparseFields.FILTER)
+public class ClinicCardV2DTO {
+    private final Long id;
+    private final String name;
+    private final String address;
+    private final String city;
+    private final Double lat;
+    private final Double lng;
+    private final List<String> specs;
+    private final Double rating;
+    private final Integer reviews;
+    private final String phone;
+    private final String img;
+    private final Double distKm; // rounded to 10 m
+    private final Integer etaMin;
+
+    public ClinicCardV2DTO(ClinicIndex.Hit hit) {
+        ClinicIndex.Entry entry = hit.entry();
+        this.id = entry.id();
+        this.name = entry.name();
+        this.address = entry.address();
+        this.city = entry.city();
+        this.lat = entry.latitude();
+        this.lng = entry.longitude();
+        this.specs = entry.specializations().isEmpty() ? null : entry.specializations();
+        this.rating = entry.rating();
+        this.reviews = entry.reviews();
+        this.phone = entry.phone();
+        this.img = entry.imageUrl();
+        this.distKm = hit.distance() != null ? Math.round(hit.distance() * 100.0) / 100.0 : null;
+        this.etaMin = hit.estimatedTime();
+    }
+}
@@ -0,0 +1,58 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.entity.Specialization;
+
+import lombok.Getter;
+
+/**
+ * Compact clinic detail for v2: doctors are flattened to {@link DoctorV2DTO}
+ * instead of embedding the entities.
+ */
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonFilter(SparseFields.FILTER)
+public class ClinicDetailV2DTO {
+    private final Long id;
+    private final String name;
+    private final String address;
+    private final String city;
+    private final Double lat;
+    private final Double lng;
+    private final List<String> specs;
+    private final String phone;
+    private final String website;
+    private final String timings;
+    private final Double rating;
+    private final Integer reviews;
+    private final String img;
+    private final List<DoctorV2DTO> doctors;
+
+    public ClinicDetailV2DTO(Clinic clinic, List<Doctor> doctors) {
+        this.id = clinic.getId();
+        this.name = clinic.getName();
+        this.address = clinic.getAddress();
+        this.city = clinic.getCity();
+        this.lat = clinic.getLatitude();
+        this.lng = clinic.getLongitude();
+        this.specs = clinic.getSpecializations()
+                .stream()
+                .map(Specialization::getSpecialization)
+                .collect(Collectors.toList());
+        this.phone = clinic.getPhone();
+        this.website = clinic.getWebsite();
+        this.timings = clinic.getTimings();
+        this.rating = clinic.getRating();
+        this.reviews = clinic.getReviews();
+        this.img = clinic.getImageUrl();
+        this.doctors = doctors.stream()
+                .map(DoctorV2DTO::new)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,23 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class ClinicFacetsDTO {
+    private long total; // clinics matching every filter
+    private List<FacetCount> cities; // counts ignoring the city filter
+    private List<FacetCount> specializations; // counts ignoring the specialization filter
+
+    @Getter
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ClinicImportReport {
+    private long received; // data rows read
+    private long imported;
+    private long duplicates; // already in the catalog or repeated in the upload
+    private long invalid;
+    private long specializationsCreated;
+    private long doctorsImported;
+    private long elapsedMs;
+    private boolean done;
+    private List<String> errors = new ArrayList<>(); // first few row errors only
+}
@@ -0,0 +1,33 @@
+package com.hospitalfinder.backend.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Everything the hospital page needs in one response. Parts that failed or
+ * missed the deadline are null and listed in {@code missing}.
+ */
+@Getter
+@Setter
+public class ClinicPageDTO {
+    private ClinicResponseDTO clinic; // includes doctors when they loaded in time
+    private ReviewSummary reviews;
+    private LocalDate date; // day the free slots refer to
+    private Map<Long, List<String>> freeSlots; // doctor id -> free "HH:mm" slots
+    private List<SimilarClinicDTO> similar = new ArrayList<>(); // precomputed alternatives, best first
+    private List<String> missing = new ArrayList<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static class ReviewSummary {
+        private long count;
+        private Double averageRating; // null when there are no reviews
+        private Map<Integer, Long> byRating; // star rating -> count
+    }
+}
@@ -3,8 +3,10 @@ package com.hospitalfinder.backend.dto;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hospitalfinder.backend.entity.Clinic;
 import com.hospitalfinder.backend.entity.Specialization;
+import com.hospitalfinder.backend.service.ClinicIndex;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -12,20 +14,21 @@ import lombok.Setter;
 @Getter
 @Setter
 public class ClinicSummaryDTO {
-    private Long clinicId;
-    private String name;
-    private String address;
-    private String city;
-    private Double latitude;
-    private Double longitude;
-    private List<String> specializations;
-    private Double rating;
-    private Integer reviews;
-    private String imageUrl;
-    private Double distance; // in kilometers
-    private Double distanceKm; // in kilometers (aliased)
-    private Integer estimatedTime; // in minutes
-    private Integer estimatedWaitMinutes; // in minutes (aliased)
+    // Indexes are the Protobuf field numbers (see ProtobufSchemas): append new fields, never renumber
+    @JsonProperty(index = 1) private Long clinicId;
+    @JsonProperty(index = 2) private String name;
+    @JsonProperty(index = 3) private String address;
+    @JsonProperty(index = 4) private String city;
+    @JsonProperty(index = 5) private Double latitude;
+    @JsonProperty(index = 6) private Double longitude;
+    @JsonProperty(index = 7) private List<String> specializations;
+    @JsonProperty(index = 8) private Double rating;
+    @JsonProperty(index = 9) private Integer reviews;
+    @JsonProperty(index = 10) private String imageUrl;
+    @JsonProperty(index = 11) private Double distance; // in kilometers
+    @JsonProperty(index = 12) private Double distanceKm; // in kilometers (aliased)
+    @JsonProperty(index = 13) private Integer estimatedTime; // in minutes
+    @JsonProperty(index = 14) private Integer estimatedWaitMinutes; // in minutes (aliased)
 
     public ClinicSummaryDTO(Clinic clinic) {
         this(clinic, null, null);
@@ -50,4 +53,21 @@ public class ClinicSummaryDTO {
         this.estimatedTime = estimatedTime;
         this.estimatedWaitMinutes = estimatedTime;
     }
+
+    public ClinicSummaryDTO(ClinicIndex.Entry entry, Double distance, Integer estimatedTime) {
+        this.clinicId = entry.id();
+        this.name = entry.name();
+        this.address = entry.address();
+        this.city = entry.city();
+        this.longitude = entry.longitude();
+        this.latitude = entry.latitude();
+        this.specializations = entry.specializations();
+        this.rating = entry.rating();
+        this.reviews = entry.reviews();
+        this.imageUrl = entry.imageUrl();
+        this.distance = distance;
+        this.distanceKm = distance;
+        this.estimatedTime = estimatedTime;
+        this.estimatedWaitMinutes = estimatedTime;
+    }
 }
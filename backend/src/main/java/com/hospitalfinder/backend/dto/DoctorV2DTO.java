@@ -0,0 +1,28 @@
+package com.hospitalfinder.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hospitalfinder.backend.entity.Doctor;
+
+import lombok.Getter;
+
+@Getter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DoctorV2DTO {
+    private final Long id;
+    private final String name;
+    private final String spec;
+    private final String qualifications;
+    private final String experience;
+    private final String bio;
+    private final String img;
+
+    public DoctorV2DTO(Doctor doctor) {
+        this.id = doctor.getId();
+        this.name = doctor.getName();
+        this.spec = doctor.getSpecialization();
+        this.qualifications = doctor.getQualifications();
+        this.experience = doctor.getExperience();
+        this.bio = doctor.getBiography();
+        this.img = doctor.getImageUrl();
+    }
+}
@@ -0,0 +1,27 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LeaderboardDTO {
+    private String city;
+    private String specialization;
+    private long version; // leaderboard build this list comes from
+    private List<Entry> clinics; // best first
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private int rank;
+        private Long clinicId;
+        private String name;
+        private String address;
+        private String imageUrl;
+        private Double rating; // listed rating blended with user reviews
+        private long reviews; // listed review count plus user reviews
+    }
+}
@@ -0,0 +1,21 @@
+package com.hospitalfinder.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Message-only body (errors, confirmations) for endpoints that may answer in
+ * CBOR or Protobuf, where a bare String body cannot be encoded. Serialized as
+ * {@code {"message": ...}}.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageResponse {
+    // Protobuf field number, see ProtobufSchemas
+    @JsonProperty(index = 1) private String message;
+}
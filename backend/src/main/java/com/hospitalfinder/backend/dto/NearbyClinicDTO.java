@@ -3,8 +3,10 @@ package com.hospitalfinder.backend.dto;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.hospitalfinder.backend.entity.Clinic;
 import com.hospitalfinder.backend.entity.Specialization;
+import com.hospitalfinder.backend.service.ClinicIndex;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -12,19 +14,20 @@ import lombok.Setter;
 @Getter
 @Setter
 public class NearbyClinicDTO {
-    private Long clinicId;
-    private String name;
-    private String address;
-    private String city;
-    private Double latitude;
-    private Double longitude;
-    private List<String> specializations;
-    private String phone;
-    private String imageUrl;
-    private Double distance; // in kilometers (legacy)
-    private Double distanceKm; // in kilometers (preferred for clients)
-    private Integer estimatedTime; // in minutes (legacy)
-    private Integer estimatedWaitMinutes; // in minutes (preferred for clients)
+    // Indexes are the Protobuf field numbers (see ProtobufSchemas): append new fields, never renumber
+    @JsonProperty(index = 1) private Long clinicId;
+    @JsonProperty(index = 2) private String name;
+    @JsonProperty(index = 3) private String address;
+    @JsonProperty(index = 4) private String city;
+    @JsonProperty(index = 5) private Double latitude;
+    @JsonProperty(index = 6) private Double longitude;
+    @JsonProperty(index = 7) private List<String> specializations;
+    @JsonProperty(index = 8) private String phone;
+    @JsonProperty(index = 9) private String imageUrl;
+    @JsonProperty(index = 10) private Double distance; // in kilometers (legacy)
+    @JsonProperty(index = 11) private Double distanceKm; // in kilometers (preferred for clients)
+    @JsonProperty(index = 12) private Integer estimatedTime; // in minutes (legacy)
+    @JsonProperty(index = 13) private Integer estimatedWaitMinutes; // in minutes (preferred for clients)
 
     public NearbyClinicDTO(Clinic clinic, Double distance, Integer estimatedTime) {
         this.clinicId = clinic.getId();
@@ -44,4 +47,20 @@ public class NearbyClinicDTO {
         this.estimatedTime = estimatedTime;
         this.estimatedWaitMinutes = estimatedTime;
     }
-}
\ No newline at end of file
+
+    public NearbyClinicDTO(ClinicIndex.Entry entry, Double distance, Integer estimatedTime) {
+        this.clinicId = entry.id();
+        this.name = entry.name();
+        this.address = entry.address();
+        this.city = entry.city();
+        this.longitude = entry.longitude();
+        this.latitude = entry.latitude();
+        this.specializations = entry.specializations();
+        this.phone = entry.phone();
+        this.imageUrl = entry.imageUrl();
+        this.distance = distance;
+        this.distanceKm = distance;
+        this.estimatedTime = estimatedTime;
+        this.estimatedWaitMinutes = estimatedTime;
+    }
+}
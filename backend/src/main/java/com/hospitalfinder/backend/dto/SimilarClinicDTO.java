@@ -0,0 +1,35 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.List;
+
+import com.hospitalfinder.backend.service.ClinicIndex;
+import com.hospitalfinder.backend.service.SimilarClinicsService;
+
+import lombok.Getter;
+
+@Getter
+public class SimilarClinicDTO {
+    private final Long clinicId;
+    private final String name;
+    private final String address;
+    private final String city;
+    private final List<String> specializations;
+    private final Double rating;
+    private final Integer reviews;
+    private final String imageUrl;
+    private final Double distanceKm; // from the clinic being viewed, null if either has no location
+    private final double specializationOverlap; // Jaccard index of the two specialization sets
+
+    public SimilarClinicDTO(ClinicIndex.Entry entry, SimilarClinicsService.SimilarClinic similar) {
+        this.clinicId = entry.id();
+        this.name = entry.name();
+        this.address = entry.address();
+        this.city = entry.city();
+        this.specializations = entry.specializations();
+        this.rating = entry.rating();
+        this.reviews = entry.reviews();
+        this.imageUrl = entry.imageUrl();
+        this.distanceKm = similar.distanceKm() != null ? Math.round(similar.distanceKm() * 100.0) / 100.0 : null;
+        this.specializationOverlap = Math.round(similar.specializationOverlap() * 100.0) / 100.0;
+    }
+}
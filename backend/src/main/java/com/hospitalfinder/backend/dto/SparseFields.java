@@ -0,0 +1,47 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+/**
+ * {@code fields=} support for DTOs annotated with {@code @JsonFilter(SparseFields.FILTER)}.
+ * Without a selection every property is written.
+ */
+public final class SparseFields {
+
+    public static final String FILTER = "fields";
+
+    // Used whenever no selection is given, including plain ObjectMapper use
+    public static final SimpleFilterProvider DEFAULT_FILTERS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    private SparseFields() {
+    }
+
+    /**
+     * Wrap a response body so only the requested comma-separated properties are
+     * serialized. {@code id} is always kept so clients can key the result.
+     */
+    public static MappingJacksonValue select(Object body, String fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (fields == null || fields.isBlank()) {
+            value.setFilters(DEFAULT_FILTERS);
+            return value;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(selected::add);
+        value.setFilters(new SimpleFilterProvider()
+                .addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(selected)));
+        return value;
+    }
+}
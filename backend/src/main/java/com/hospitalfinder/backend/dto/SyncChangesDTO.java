@@ -0,0 +1,91 @@
+package com.hospitalfinder.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.entity.Specialization;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * One page of the catalog change feed. Upserts carry the current state of
+ * each entity; deletions are tombstones (ids only). Pass {@code version} as
+ * {@code since} on the next call; keep paging while {@code hasMore}.
+ */
+@Getter
+@Setter
+public class SyncChangesDTO {
+    private long since;
+    private long version; // last change included in this page
+    private boolean hasMore;
+    private List<ClinicChange> clinics = new ArrayList<>();
+    private List<DoctorChange> doctors = new ArrayList<>();
+    private List<Specialization> specializations = new ArrayList<>();
+    private Tombstones deleted = new Tombstones();
+
+    @Getter
+    public static class Tombstones {
+        private final List<Long> clinics = new ArrayList<>();
+        private final List<Long> doctors = new ArrayList<>();
+        private final List<Long> specializations = new ArrayList<>();
+    }
+
+    @Getter
+    public static class ClinicChange {
+        private final Long id;
+        private final String name;
+        private final String address;
+        private final String city;
+        private final Double latitude;
+        private final Double longitude;
+        private final String phone;
+        private final String website;
+        private final String timings;
+        private final Double rating;
+        private final Integer reviews;
+        private final String imageUrl;
+        private final List<Long> specializationIds;
+
+        public ClinicChange(Clinic clinic) {
+            this.id = clinic.getId();
+            this.name = clinic.getName();
+            this.address = clinic.getAddress();
+            this.city = clinic.getCity();
+            this.latitude = clinic.getLatitude();
+            this.longitude = clinic.getLongitude();
+            this.phone = clinic.getPhone();
+            this.website = clinic.getWebsite();
+            this.timings = clinic.getTimings();
+            this.rating = clinic.getRating();
+            this.reviews = clinic.getReviews();
+            this.imageUrl = clinic.getImageUrl();
+            this.specializationIds = clinic.getSpecializations().stream().map(Specialization::getId).toList();
+        }
+    }
+
+    @Getter
+    public static class DoctorChange {
+        private final Long id;
+        private final Long clinicId;
+        private final String name;
+        private final String qualifications;
+        private final String specialization;
+        private final String experience;
+        private final String biography;
+        private final String imageUrl;
+
+        public DoctorChange(Doctor doctor) {
+            this.id = doctor.getId();
+            this.clinicId = doctor.getClinic() != null ? doctor.getClinic().getId() : null;
+            this.name = doctor.getName();
+            this.qualifications = doctor.getQualifications();
+            this.specialization = doctor.getSpecialization();
+            this.experience = doctor.getExperience();
+            this.biography = doctor.getBiography();
+            this.imageUrl = doctor.getImageUrl();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.hospitalfinder.backend.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One row of the append-only catalog change log. The id doubles as the sync
+ * version handed to clients. Rows are written in the same transaction as the
+ * catalog write they describe, and the feed serves them in (txid, id) order,
+ * i.e. grouped by the transaction that wrote them.
+ */
+@Entity
+@Table(name = "catalog_change", indexes = {
+        @Index(name = "idx_catalog_change_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_catalog_change_txid", columnList = "txid, id") })
+@Getter @Setter
+@NoArgsConstructor
+public class CatalogChange {
+
+    public enum EntityType {
+        CLINIC, DOCTOR, SPECIALIZATION
+    }
+
+    public enum Operation {
+        UPSERT, DELETE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private EntityType entityType;
+
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    private Operation operation;
+
+    private LocalDateTime changedAt;
+
+    // pg_current_xact_id() of the writing transaction; 0 on databases without one
+    private Long txid;
+}
@@ -0,0 +1,43 @@
+package com.hospitalfinder.backend.entity;
+
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Denormalized read model of a clinic card: one row per clinic, no joins.
+ * Maintained by {@code ClinicListingService} on every catalog write.
+ */
+@Entity
+@Table(name = "clinic_listing")
+@Getter @Setter
+@NoArgsConstructor
+public class ClinicListing {
+
+    @Id
+    private Long clinicId;
+
+    private String name;
+    private String address;
+    private String city;
+    private Double latitude;
+    private Double longitude;
+    private String phone;
+    private String imageUrl;
+    private Double rating;
+    private Integer reviews;
+
+    // Specialization names in link order, stored as an array so names round-trip exactly
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "specialization_names")
+    private List<String> specializations;
+}
@@ -0,0 +1,25 @@
+package com.hospitalfinder.backend.exception;
+
+/**
+ * A failed LLM call. {@code status} is the HTTP status to answer the chat
+ * client with: the upstream status for API errors, 503 when the LLM bulkhead
+ * is full and 504 when the call ran past its deadline.
+ */
+public class LlmException extends RuntimeException {
+
+    private final int status;
+
+    public LlmException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public LlmException(int status, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
@@ -0,0 +1,13 @@
+package com.hospitalfinder.backend.exception;
+
+/**
+ * The LLM was not called because its circuit breaker is open after repeated
+ * upstream failures. Callers should answer in degraded mode rather than
+ * surface an error.
+ */
+public class LlmUnavailableException extends LlmException {
+
+    public LlmUnavailableException(String message) {
+        super(503, message);
+    }
+}
@@ -28,4 +28,13 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
     AND CAST(a.appointmentTime AS LocalDate) = :date
     """)
     List<Appointment> findByDoctorAndDate(@Param("doctorId") Long doctorId, @Param("date") LocalDate date);
+
+    // [doctorId, appointmentTime] of every booked slot in a clinic for a date
+    @Query("""
+    SELECT a.doctor.id, a.appointmentTime FROM Appointment a
+    WHERE a.clinic.id = :clinicId
+    AND CAST(a.appointmentTime AS LocalDate) = :date
+    AND UPPER(a.status) = 'BOOKED'
+    """)
+    List<Object[]> findBookedSlotsByClinicAndDate(@Param("clinicId") Long clinicId, @Param("date") LocalDate date);
 }
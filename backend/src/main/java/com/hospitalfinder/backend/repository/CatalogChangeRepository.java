@@ -0,0 +1,26 @@
+package com.hospitalfinder.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.hospitalfinder.backend.entity.CatalogChange;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+
+    // Next page of the feed: changes after a (txid, id) position, from transactions older than the horizon
+    @Query(value = """
+            SELECT * FROM catalog_change c
+            WHERE (c.txid, c.id) > (:sinceTxid, :since) AND c.txid < :horizon
+            ORDER BY c.txid, c.id
+            """, nativeQuery = true)
+    List<CatalogChange> findPage(@Param("sinceTxid") long sinceTxid, @Param("since") long since,
+            @Param("horizon") long horizon, Pageable page);
+
+    @Query("SELECT c.txid FROM CatalogChange c WHERE c.id = :id")
+    Optional<Long> findTxidById(@Param("id") Long id);
+}
@@ -0,0 +1,8 @@
+package com.hospitalfinder.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.hospitalfinder.backend.entity.ClinicListing;
+
+public interface ClinicListingRepository extends JpaRepository<ClinicListing, Long> {
+}
@@ -1,5 +1,6 @@
 package com.hospitalfinder.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -25,40 +26,17 @@ public interface ClinicRepository extends JpaRepository<Clinic, Long> {
 
     boolean existsByName(String name);
 
-    @Query(value = """
-            SELECT * FROM clinic c
-            WHERE (
-                6371 * acos(
-                    cos(radians(:lat)) * cos(radians(c.latitude)) *
-                    cos(radians(c.longitude) - radians(:lng)) +
-                    sin(radians(:lat)) * sin(radians(c.latitude))
-                )
-            ) <= 5
-            ORDER BY (
-                6371 * acos(
-                    cos(radians(:lat)) * cos(radians(c.latitude)) *
-                    cos(radians(c.longitude) - radians(:lng)) +
-                    sin(radians(:lat)) * sin(radians(c.latitude))
-                )
-            )
-            """, nativeQuery = true)
-    List<Clinic> findNearestClinics(@Param("lat") Double latitude, @Param("lng") Double longitude);
-
-    @Query(value = """
-            SELECT * FROM clinic c
-            ORDER BY (
-                6371 * acos(
-                    cos(radians(:lat)) * cos(radians(c.latitude)) *
-                    cos(radians(c.longitude) - radians(:lng)) +
-                    sin(radians(:lat)) * sin(radians(c.latitude))
-                )
-            )
-            """, nativeQuery = true)
-    List<Clinic> findAllClinicsOrderedByDistance(@Param("lat") Double latitude, @Param("lng") Double longitude);
+    // Lower-cased name|address|city keys, matching the IgnoreCase existence check above
+    @Query("SELECT LOWER(CONCAT(TRIM(c.name), '|', COALESCE(TRIM(c.address), ''), '|', TRIM(c.city))) " +
+            "FROM Clinic c WHERE c.name IS NOT NULL AND c.city IS NOT NULL")
+    List<String> findAllDuplicateKeys();
 
     @Query("SELECT DISTINCT c FROM Clinic c LEFT JOIN FETCH c.specializations")
     List<Clinic> findAllWithSpecializations();
 
+    @Query("SELECT DISTINCT c FROM Clinic c LEFT JOIN FETCH c.specializations WHERE c.id IN :ids")
+    List<Clinic> findAllWithSpecializationsByIdIn(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT DISTINCT c.city FROM Clinic c WHERE c.city IS NOT NULL")
     List<String> findAllDistinctCities();
 
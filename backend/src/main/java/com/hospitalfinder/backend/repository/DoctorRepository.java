@@ -1,8 +1,11 @@
 package com.hospitalfinder.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.hospitalfinder.backend.entity.Doctor;
 
@@ -12,4 +15,10 @@ public interface DoctorRepository extends JpaRepository<Doctor, Long> {
 
     // Find all doctors for a clinic
     List<Doctor> findByClinicId(Long clinicId);
+
+    // All doctors for a set of clinics, in one IN query
+    List<Doctor> findByClinicIdIn(Collection<Long> clinicIds);
+
+    @Query("SELECT d.id FROM Doctor d WHERE d.clinic.id IN :clinicIds")
+    List<Long> findIdsByClinicIdIn(@Param("clinicIds") Collection<Long> clinicIds);
 }
\ No newline at end of file
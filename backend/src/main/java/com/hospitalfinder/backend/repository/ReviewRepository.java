@@ -2,6 +2,8 @@ package com.hospitalfinder.backend.repository;
 
 import com.hospitalfinder.backend.entity.Review;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     List<Review> findByUserId(Long userId);
 
     Review findByUserIdAndDoctorId(Long userId, Long doctorId);
+
+    // [rating, count] rows for a hospital's rating histogram
+    @Query("SELECT r.rating, COUNT(r) FROM Review r WHERE r.hospitalId = :hospitalId GROUP BY r.rating")
+    List<Object[]> countByRatingForHospital(@Param("hospitalId") Long hospitalId);
+
+    // [hospitalId, count, sum of ratings] for every reviewed hospital
+    @Query("SELECT r.hospitalId, COUNT(r), SUM(r.rating) FROM Review r WHERE r.hospitalId IS NOT NULL GROUP BY r.hospitalId")
+    List<Object[]> sumRatingsByHospital();
 }
@@ -0,0 +1,235 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.BitSet;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Whole-catalog download for offline clients: a gzip-compressed, columnar
+ * binary file regenerated in the background whenever the catalog version
+ * moves, and served straight from disk.
+ *
+ * <p>Uncompressed layout. Integers are unsigned LEB128 varints, signed deltas
+ * are zig-zag encoded first, strings are a varint byte length plus UTF-8:
+ *
+ * <pre>
+ * magic "HCB1", varint format, long catalogVersion (8 bytes, big-endian), varint n
+ * strings specs        (spec table; bit i of a mask = specs[i])
+ * strings cities       (city table)
+ * n x varint           id delta from the previous id (ids ascending)
+ * n x string           name
+ * n x varint           city ordinal + 1 (0 = none)
+ * ceil(n / 8) bytes    has-location bitmap, LSB first
+ * m x zigzag varint    latitude in 1e-5 degrees, delta from the previous located clinic
+ * m x zigzag varint    longitude in 1e-5 degrees, same
+ * n x byte             rating x 20 (0-100), 255 = none
+ * n x varint           reviews + 1 (0 = none)
+ * n x (varint k, k bytes) spec mask, little-endian bytes
+ * </pre>
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogBundleService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogBundleService.class);
+
+    private static final byte[] MAGIC = "HCB1".getBytes(StandardCharsets.US_ASCII);
+    private static final int FORMAT = 1;
+    private static final double COORDINATE_SCALE = 1e5;
+
+    private final ClinicIndex clinicIndex;
+
+    @Value("${catalog.bundle.dir:${java.io.tmpdir}/hospico-bundle}")
+    private Path dir;
+
+    // How long a replaced file stays on disk for transfers that were handed it before
+    @Value("${catalog.bundle.retain-ms:600000}")
+    private long retainMs;
+
+    private volatile Bundle current;
+
+    /** A generated bundle file for a catalog version. */
+    public record Bundle(long version, Path file, long size) {
+        public String etag() {
+            return "\"bundle-" + version + "\"";
+        }
+    }
+
+    /** The newest bundle; generated on the spot only if none exists yet. */
+    public Bundle bundle() throws IOException {
+        Bundle bundle = current;
+        return bundle != null ? bundle : regenerate();
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.bundle.check-ms:10000}")
+    public void regenerateIfChanged() {
+        Bundle bundle = current;
+        if (bundle != null && bundle.version() == clinicIndex.snapshot().version()) {
+            return;
+        }
+        try {
+            regenerate();
+        } catch (IOException e) {
+            logger.warn("Could not write catalog bundle: {}", e.getMessage());
+        }
+    }
+
+    private synchronized Bundle regenerate() throws IOException {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        if (current != null && current.version() == snapshot.version()) {
+            return current;
+        }
+        long started = System.currentTimeMillis();
+        Files.createDirectories(dir);
+        Path target = dir.resolve("catalog-" + snapshot.version() + ".bin.gz");
+        Path tmp = Files.createTempFile(dir, "catalog", ".tmp");
+        try {
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)),
+                    1 << 16)) {
+                out.write(encode(snapshot));
+            }
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        Bundle previous = current;
+        current = new Bundle(snapshot.version(), target, Files.size(target));
+        if (previous != null && !previous.file().equals(target)) {
+            // Its age now counts from when it stopped being served
+            Files.setLastModifiedTime(previous.file(), FileTime.fromMillis(System.currentTimeMillis()));
+        }
+        deleteReplacedBefore(System.currentTimeMillis() - retainMs);
+        logger.info("Catalog bundle v{} written: {} clinics, {} bytes in {} ms", snapshot.version(),
+                snapshot.size(), current.size(), System.currentTimeMillis() - started);
+        return current;
+    }
+
+    /**
+     * Delete replaced bundle files last modified before {@code cutoff}. A
+     * request may have been handed an older file just before it was replaced
+     * and open it only later (sendfile), so files are kept by age rather than
+     * by count.
+     */
+    private void deleteReplacedBefore(long cutoff) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "catalog-*.bin.gz")) {
+            for (Path file : files) {
+                if (!file.equals(current.file()) && Files.getLastModifiedTime(file).toMillis() < cutoff) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    static byte[] encode(ClinicIndex.Snapshot snapshot) {
+        int n = snapshot.size();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(n * 48 + 64);
+        out.writeBytes(MAGIC);
+        writeVarint(out, FORMAT);
+        long version = snapshot.version();
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (version >>> shift));
+        }
+        writeVarint(out, n);
+
+        writeVarint(out, snapshot.specCount());
+        for (int i = 0; i < snapshot.specCount(); i++) {
+            writeString(out, snapshot.specName(i));
+        }
+        writeVarint(out, snapshot.cityCount());
+        for (int i = 0; i < snapshot.cityCount(); i++) {
+            writeString(out, snapshot.cityName(i));
+        }
+
+        long previousId = 0;
+        for (int pos = 0; pos < n; pos++) {
+            long id = snapshot.get(pos).id();
+            writeVarint(out, id - previousId);
+            previousId = id;
+        }
+        for (int pos = 0; pos < n; pos++) {
+            writeString(out, snapshot.get(pos).name());
+        }
+        for (int pos = 0; pos < n; pos++) {
+            writeVarint(out, snapshot.cityOrdinalAt(pos) + 1);
+        }
+
+        byte[] located = new byte[(n + 7) / 8];
+        for (int pos = 0; pos < n; pos++) {
+            if (snapshot.get(pos).hasLocation()) {
+                located[pos >> 3] |= (byte) (1 << (pos & 7));
+            }
+        }
+        out.writeBytes(located);
+        // Sorted by id, neighbours are usually imported together and close by, so deltas stay small
+        long previous = 0;
+        for (int pos = 0; pos < n; pos++) {
+            ClinicIndex.Entry entry = snapshot.get(pos);
+            if (entry.hasLocation()) {
+                long scaled = Math.round(entry.latitude() * COORDINATE_SCALE);
+                writeVarint(out, zigZag(scaled - previous));
+                previous = scaled;
+            }
+        }
+        previous = 0;
+        for (int pos = 0; pos < n; pos++) {
+            ClinicIndex.Entry entry = snapshot.get(pos);
+            if (entry.hasLocation()) {
+                long scaled = Math.round(entry.longitude() * COORDINATE_SCALE);
+                writeVarint(out, zigZag(scaled - previous));
+                previous = scaled;
+            }
+        }
+
+        for (int pos = 0; pos < n; pos++) {
+            Double rating = snapshot.get(pos).rating();
+            out.write(rating == null ? 255 : (int) Math.max(0, Math.min(100, Math.round(rating * 20))));
+        }
+        for (int pos = 0; pos < n; pos++) {
+            Integer reviews = snapshot.get(pos).reviews();
+            writeVarint(out, reviews == null ? 0 : Math.max(0, reviews) + 1L);
+        }
+        for (int pos = 0; pos < n; pos++) {
+            BitSet mask = snapshot.get(pos).specMask();
+            byte[] bytes = mask.toByteArray();
+            writeVarint(out, bytes.length);
+            out.writeBytes(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+}
@@ -0,0 +1,100 @@
+package com.hospitalfinder.backend.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hospitalfinder.backend.entity.CatalogChange;
+import com.hospitalfinder.backend.repository.CatalogChangeRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Appends to the {@code catalog_change} log. {@link #record} must run inside
+ * the writer's transaction so the log commits or rolls back with the change
+ * itself; rows are written as one JDBC batch. On PostgreSQL each row carries
+ * the writer's transaction id, and {@link #horizon()} tells the feed which
+ * transactions are finished, so a long transaction that took a low id is
+ * served once it commits instead of being skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogChangeLog.class);
+
+    // xid8 has no direct cast to bigint; the text form is the 64-bit (epoch-extended) id
+    private static final String PG_TXID = "pg_current_xact_id()::text::bigint";
+    private static final String PG_HORIZON = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final DatabaseProduct databaseProduct;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CatalogChange.EntityType type, CatalogChange.Operation operation, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            rows.add(new Object[] { type.name(), id, operation.name(), now });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO catalog_change (entity_type, entity_id, operation, changed_at, txid) "
+                + "VALUES (?, ?, ?, ?, " + txid() + ")", rows);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(CatalogChange.EntityType type, CatalogChange.Operation operation, Long id) {
+        record(type, operation, List.of(id));
+    }
+
+    /**
+     * Seed an empty log with an upsert for every existing row, so a client
+     * syncing from version 0 receives the full catalog.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedIfEmpty() {
+        if (catalogChangeRepository.count() > 0) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int rows = 0;
+        for (String[] source : new String[][] {
+                { CatalogChange.EntityType.SPECIALIZATION.name(), "specialization" },
+                { CatalogChange.EntityType.CLINIC.name(), "clinic" },
+                { CatalogChange.EntityType.DOCTOR.name(), "doctor" } }) {
+            rows += jdbcTemplate.update("INSERT INTO catalog_change (entity_type, entity_id, operation, changed_at, txid) "
+                    + "SELECT ?, id, ?, ?, " + txid() + " FROM " + source[1] + " ORDER BY id",
+                    source[0], CatalogChange.Operation.UPSERT.name(), now);
+        }
+        logger.info("Catalog change log seeded with {} rows", rows);
+    }
+
+    /**
+     * Transactions with a txid below this have all committed or rolled back,
+     * so the log rows below it are final. Unbounded where txids are not kept.
+     */
+    public long horizon() {
+        if (!databaseProduct.isPostgres()) {
+            return Long.MAX_VALUE;
+        }
+        return jdbcTemplate.queryForObject(PG_HORIZON, Long.class);
+    }
+
+    private String txid() {
+        return databaseProduct.isPostgres() ? PG_TXID : "0";
+    }
+}
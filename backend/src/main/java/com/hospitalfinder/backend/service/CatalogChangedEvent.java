@@ -0,0 +1,15 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.Set;
+
+/**
+ * Published on every catalog write with the version it produced and the
+ * clinics it touched. {@code clinicIds} is null when the writer could not
+ * tell, in which case listeners should treat every clinic as changed.
+ */
+public record CatalogChangedEvent(long version, Set<Long> clinicIds) {
+
+    public boolean affectsAll() {
+        return clinicIds == null;
+    }
+}
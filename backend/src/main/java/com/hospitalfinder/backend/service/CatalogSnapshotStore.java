@@ -0,0 +1,222 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Local-disk copy of the {@link ClinicIndex} so a cold-started instance can
+ * answer catalog reads before it has talked to the database. The file is
+ * memory-mapped and decoded at startup; afterwards it is rewritten in the
+ * background whenever the catalog changed. Layout (big-endian):
+ *
+ * <pre>
+ * int magic, int format, long catalogVersion,
+ * int specCount, specCount x string,
+ * int clinicCount, clinicCount x clinic
+ * clinic: long id, string name, string address, string city,
+ *         double latitude, double longitude, string phone, string imageUrl,
+ *         double rating, int reviews, short specCount, specCount x short ordinal
+ * </pre>
+ *
+ * Strings are an int byte length (-1 for null) plus UTF-8 bytes; missing
+ * numbers are NaN or {@link Integer#MIN_VALUE}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogSnapshotStore.class);
+
+    private static final int MAGIC = 0x48435331; // "HCS1"
+    private static final int FORMAT = 2;
+
+    private final ClinicIndex clinicIndex;
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean enabled;
+    @Value("${catalog.snapshot.path:${java.io.tmpdir}/hospico-catalog.bin}")
+    private Path path;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private volatile long writtenVersion = -1;
+
+    @PostConstruct
+    void load() {
+        if (!enabled || !Files.isReadable(path)) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                logger.warn("Ignoring catalog snapshot {} with unknown format", path);
+                return;
+            }
+            long savedVersion = buffer.getLong();
+
+            int specCount = buffer.getInt();
+            Map<String, Integer> specOrdinals = new LinkedHashMap<>();
+            String[] specNames = new String[specCount];
+            for (int i = 0; i < specCount; i++) {
+                specNames[i] = readString(buffer);
+                specOrdinals.put(specNames[i].toLowerCase(), i);
+            }
+
+            int clinicCount = buffer.getInt();
+            List<ClinicIndex.Entry> entries = new ArrayList<>(clinicCount);
+            for (int i = 0; i < clinicCount; i++) {
+                long id = buffer.getLong();
+                String name = readString(buffer);
+                String address = readString(buffer);
+                String city = readString(buffer);
+                Double latitude = readDouble(buffer);
+                Double longitude = readDouble(buffer);
+                String phone = readString(buffer);
+                String imageUrl = readString(buffer);
+                Double rating = readDouble(buffer);
+                int reviews = buffer.getInt();
+                int specs = buffer.getShort();
+                List<String> specializations = new ArrayList<>(specs);
+                BitSet specMask = new BitSet();
+                for (int s = 0; s < specs; s++) {
+                    int ordinal = buffer.getShort();
+                    specializations.add(specNames[ordinal]);
+                    specMask.set(ordinal);
+                }
+                entries.add(new ClinicIndex.Entry(id, name, address, city, latitude, longitude, phone, imageUrl,
+                        rating, reviews == Integer.MIN_VALUE ? null : reviews,
+                        Collections.unmodifiableList(specializations), specMask));
+            }
+
+            if (clinicIndex.preload(entries, specOrdinals)) {
+                logger.info("Catalog snapshot loaded from {}: {} clinics (saved at version {}) in {} ms", path,
+                        clinicCount, savedVersion, System.currentTimeMillis() - started);
+            }
+        } catch (IOException | RuntimeException e) {
+            // A damaged file only costs the warm start; the index loads from the database instead
+            logger.warn("Could not load catalog snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.snapshot.write-delay-ms:5000}")
+    public void writeIfChanged() {
+        if (!enabled || !dirty.getAndSet(false)) {
+            return;
+        }
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        if (snapshot.version() == writtenVersion) {
+            return;
+        }
+        try {
+            write(snapshot);
+            writtenVersion = snapshot.version();
+        } catch (IOException e) {
+            dirty.set(true);
+            logger.warn("Could not write catalog snapshot {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void write(ClinicIndex.Snapshot snapshot) throws IOException {
+        long started = System.currentTimeMillis();
+        Path dir = path.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, "catalog", ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(tmp);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                out.writeLong(snapshot.version());
+                out.writeInt(snapshot.specCount());
+                for (int i = 0; i < snapshot.specCount(); i++) {
+                    writeString(out, snapshot.specName(i));
+                }
+                out.writeInt(snapshot.size());
+                for (ClinicIndex.Entry entry : snapshot.entries()) {
+                    out.writeLong(entry.id());
+                    writeString(out, entry.name());
+                    writeString(out, entry.address());
+                    writeString(out, entry.city());
+                    writeDouble(out, entry.latitude());
+                    writeDouble(out, entry.longitude());
+                    writeString(out, entry.phone());
+                    writeString(out, entry.imageUrl());
+                    writeDouble(out, entry.rating());
+                    out.writeInt(entry.reviews() != null ? entry.reviews() : Integer.MIN_VALUE);
+                    // Link order, as the cards show them; the mask is rebuilt from these on load
+                    out.writeShort(entry.specializations().size());
+                    for (String specialization : entry.specializations()) {
+                        out.writeShort(snapshot.specOrdinal(specialization));
+                    }
+                }
+            }
+            // Readers only ever map a complete file
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        logger.info("Catalog snapshot written to {}: {} clinics in {} ms", path, snapshot.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeDouble(value != null ? value : Double.NaN);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Double readDouble(ByteBuffer buffer) {
+        double value = buffer.getDouble();
+        return Double.isNaN(value) ? null : value;
+    }
+}
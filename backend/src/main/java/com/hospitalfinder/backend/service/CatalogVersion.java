@@ -0,0 +1,115 @@
+package com.hospitalfinder.backend.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Monotonic version of the clinic catalog (clinics, doctors, specializations).
+ * Every catalog write bumps it; read endpoints derive strong ETags from it so
+ * unchanged data can be answered with 304 before touching the database.
+ * Each bump also publishes a {@link CatalogChangedEvent} for derived views.
+ * Inside a transaction the bump is deferred until commit, so nothing can be
+ * rebuilt from uncommitted data under the new version.
+ */
+@Component
+public class CatalogVersion {
+
+    // Seeded from the clock so ETags handed out by a previous process never match
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${catalog.cache.max-age-seconds:60}")
+    private long maxAgeSeconds;
+
+    public CatalogVersion(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    /** Bump after a write whose affected clinics are not known. */
+    public void bump() {
+        publish(null);
+    }
+
+    /** Bump after a write that touched only the given clinics. */
+    public void bump(Collection<Long> clinicIds) {
+        publish(Set.copyOf(clinicIds));
+    }
+
+    public void bump(Long clinicId) {
+        publish(Set.of(clinicId));
+    }
+
+    private void publish(Set<Long> clinicIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(clinicIds);
+                }
+            });
+            return;
+        }
+        publishNow(clinicIds);
+    }
+
+    private void publishNow(Set<Long> clinicIds) {
+        long next = version.incrementAndGet();
+        eventPublisher.publishEvent(new CatalogChangedEvent(next, clinicIds));
+    }
+
+    /** Strong ETag for a catalog resource at the current version. */
+    public String etag(String resource) {
+        return "\"" + resource + "-" + current() + "\"";
+    }
+
+    public CacheControl cacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).mustRevalidate();
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches the given ETag. Weak
+     * validators compare equal to their strong counterpart, as RFC 9110 allows
+     * for GET.
+     */
+    public boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl())
+                .build();
+    }
+}
@@ -0,0 +1,140 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Consecutive-failure circuit breaker. After {@code failureThreshold} failed
+ * calls in a row it opens and rejects calls for {@code openMillis}; then it
+ * goes half-open and lets up to {@code halfOpenProbes} calls through. A
+ * successful probe closes it, a failed one opens it again.
+ * <p>
+ * Every state change starts a new generation, and a call's outcome only
+ * counts in the generation that admitted it: a slow call admitted while
+ * closed can't close a half-open breaker, and only probes decide whether it
+ * closes.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** Admission ticket from {@link #tryAcquire()}; pass it back with the outcome. */
+    public record Permit(long generation) {
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private int consecutiveFailures;
+    private long openedAt;
+    private int probesInFlight;
+    private long timesOpened;
+    private long rejected;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis, int halfOpenProbes) {
+        this(name, failureThreshold, openMillis, halfOpenProbes, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openMillis, int halfOpenProbes, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenProbes = halfOpenProbes;
+        this.clock = clock;
+    }
+
+    /**
+     * A permit when the call may go ahead, or null when it is rejected. Every
+     * permit must be passed back to exactly one of {@link #onSuccess},
+     * {@link #onFailure} or {@link #onAbandoned}.
+     */
+    public synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                rejected++;
+                return null;
+            }
+            transition(State.HALF_OPEN);
+            probesInFlight = 0;
+            log.info("Circuit '{}' half-open, probing", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight >= halfOpenProbes) {
+                rejected++;
+                return null;
+            }
+            probesInFlight++;
+        }
+        return new Permit(generation);
+    }
+
+    public synchronized void onSuccess(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            log.info("Circuit '{}' closed", name);
+            transition(State.CLOSED);
+            probesInFlight = 0;
+        }
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void onFailure(Permit permit) {
+        if (permit.generation() != generation) {
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            transition(State.OPEN);
+            openedAt = clock.getAsLong();
+            probesInFlight = 0;
+            timesOpened++;
+            log.warn("Circuit '{}' open for {} ms after {} consecutive failures", name, openMillis, consecutiveFailures);
+        }
+    }
+
+    /**
+     * The call produced no evidence about the upstream (it failed locally, or
+     * its reply was never read). Frees its probe slot without changing state.
+     */
+    public synchronized void onAbandoned(Permit permit) {
+        if (permit.generation() == generation && state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void transition(State next) {
+        state = next;
+        generation++;
+    }
+
+    /** True while calls are being rejected (open and not yet due for a probe). */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && clock.getAsLong() - openedAt < openMillis;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state.name());
+        stats.put("consecutiveFailures", consecutiveFailures);
+        stats.put("timesOpened", timesOpened);
+        stats.put("rejected", rejected);
+        return stats;
+    }
+}
@@ -0,0 +1,125 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hospitalfinder.backend.dto.ClinicSummaryDTO;
+import com.hospitalfinder.backend.dto.NearbyClinicDTO;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Pre-encoded UTF-8 JSON for clinic cards. Each clinic's static fields are
+ * serialized once per card type and kept as an open object fragment
+ * ({@code {"clinicId":1,...}} without the closing brace); list responses are
+ * stitched from those fragments and only the per-request distance and ETA
+ * fields are written each time. Output is byte-for-byte what Jackson would
+ * produce for the corresponding DTO.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClinicCardJsonCache {
+
+    // Per-request fields, always serialized last in this order by both card DTOs
+    private static final List<String> PER_REQUEST_FIELDS = List.of(
+            "distance", "distanceKm", "estimatedTime", "estimatedWaitMinutes");
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, Fragment> summaryFragments = new ConcurrentHashMap<>();
+    private final Map<Long, Fragment> nearbyFragments = new ConcurrentHashMap<>();
+
+    public enum Card {
+        SUMMARY, NEARBY
+    }
+
+    /** JSON array of cards, equivalent to serializing the DTO list with Jackson. */
+    public byte[] writeList(Card card, List<ClinicIndex.Hit> hits) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(hits.size() * 384 + 2);
+        out.write('[');
+        for (int i = 0; i < hits.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            ClinicIndex.Hit hit = hits.get(i);
+            out.writeBytes(fragment(card, hit.entry()));
+            writeTail(out, hit.distance(), hit.estimatedTime());
+        }
+        out.write(']');
+        return out.toByteArray();
+    }
+
+    /** Drop cached fragments of a clinic, e.g. after it was updated or deleted. */
+    public void evict(Long clinicId) {
+        summaryFragments.remove(clinicId);
+        nearbyFragments.remove(clinicId);
+    }
+
+    private byte[] fragment(Card card, ClinicIndex.Entry entry) {
+        Map<Long, Fragment> fragments = card == Card.SUMMARY ? summaryFragments : nearbyFragments;
+        Fragment cached = fragments.get(entry.id());
+        // Snapshots are rebuilt on any catalog write; only re-encode clinics whose card changed
+        if (cached != null && sameCard(cached.source, entry)) {
+            return cached.json;
+        }
+        Object dto = card == Card.SUMMARY
+                ? new ClinicSummaryDTO(entry, null, null)
+                : new NearbyClinicDTO(entry, null, null);
+        Fragment fresh = new Fragment(entry, encodeOpen(dto));
+        fragments.put(entry.id(), fresh);
+        return fresh.json;
+    }
+
+    private byte[] encodeOpen(Object dto) {
+        ObjectNode node = objectMapper.valueToTree(dto);
+        node.remove(PER_REQUEST_FIELDS);
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(node);
+            // Strip the closing brace; the tail re-closes the object
+            return Arrays.copyOf(json, json.length - 1);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode clinic card " + node.get("clinicId"), e);
+        }
+    }
+
+    private void writeTail(ByteArrayOutputStream out, Double distance, Integer estimatedTime) {
+        String d = distance != null ? Double.toString(distance) : "null";
+        String t = estimatedTime != null ? Integer.toString(estimatedTime) : "null";
+        StringBuilder tail = new StringBuilder(96);
+        tail.append(",\"distance\":").append(d)
+                .append(",\"distanceKm\":").append(d)
+                .append(",\"estimatedTime\":").append(t)
+                .append(",\"estimatedWaitMinutes\":").append(t)
+                .append('}');
+        out.writeBytes(tail.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static boolean sameCard(ClinicIndex.Entry a, ClinicIndex.Entry b) {
+        if (a == b) {
+            return true;
+        }
+        return Objects.equals(a.name(), b.name())
+                && Objects.equals(a.address(), b.address())
+                && Objects.equals(a.city(), b.city())
+                && Objects.equals(a.latitude(), b.latitude())
+                && Objects.equals(a.longitude(), b.longitude())
+                && Objects.equals(a.phone(), b.phone())
+                && Objects.equals(a.imageUrl(), b.imageUrl())
+                && Objects.equals(a.rating(), b.rating())
+                && Objects.equals(a.reviews(), b.reviews())
+                && Objects.equals(a.specializations(), b.specializations());
+    }
+
+    private record Fragment(ClinicIndex.Entry source, byte[] json) {
+    }
+}
@@ -0,0 +1,209 @@
+package com.hospitalfinder.backend.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.hospitalfinder.backend.dto.ClinicPageDTO;
+import com.hospitalfinder.backend.dto.ClinicResponseDTO;
+import com.hospitalfinder.backend.dto.SimilarClinicDTO;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.repository.AppointmentRepository;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
+import com.hospitalfinder.backend.repository.ReviewRepository;
+
+/**
+ * Builds the hospital page in one call: clinic, doctors, review summary and
+ * the day's booked slots are loaded concurrently on a bounded pool under a
+ * single deadline. Whatever is not ready by then is left out and reported.
+ * Similar clinics come straight from the precomputed lists.
+ */
+@Service
+public class ClinicDetailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinicDetailService.class);
+
+    private static final DateTimeFormatter SLOT_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final ClinicRepository clinicRepository;
+    private final DoctorRepository doctorRepository;
+    private final ReviewRepository reviewRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final SimilarClinicsService similarClinicsService;
+    private final ClinicIndex clinicIndex;
+
+    @Value("${catalog.detail.timeout-ms:800}")
+    private long timeoutMs;
+
+    public ClinicDetailService(ClinicRepository clinicRepository, DoctorRepository doctorRepository,
+            ReviewRepository reviewRepository, AppointmentRepository appointmentRepository,
+            @Qualifier("clinicDetailExecutor") ThreadPoolTaskExecutor executor,
+            SimilarClinicsService similarClinicsService, ClinicIndex clinicIndex) {
+        this.clinicRepository = clinicRepository;
+        this.doctorRepository = doctorRepository;
+        this.reviewRepository = reviewRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.executor = executor;
+        this.similarClinicsService = similarClinicsService;
+        this.clinicIndex = clinicIndex;
+    }
+
+    /** The page for a clinic, or empty if the clinic does not exist. */
+    public Optional<ClinicPageDTO> getClinicPage(Long clinicId, LocalDate date) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        CompletableFuture<Optional<ClinicResponseDTO>> clinicPart = submit(() -> clinicRepository
+                .findAllWithSpecializationsByIdIn(List.of(clinicId)).stream()
+                .findFirst()
+                .map(ClinicResponseDTO::new));
+        CompletableFuture<List<Doctor>> doctorsPart = submit(() -> doctorRepository.findByClinicId(clinicId));
+        CompletableFuture<ClinicPageDTO.ReviewSummary> reviewsPart = submit(() -> reviewSummary(clinicId));
+        CompletableFuture<List<Object[]>> bookedPart = submit(
+                () -> appointmentRepository.findBookedSlotsByClinicAndDate(clinicId, date));
+
+        ClinicPageDTO page = new ClinicPageDTO();
+        page.setDate(date);
+
+        Optional<ClinicResponseDTO> clinic = await("clinic", clinicPart, deadline, page);
+        if (clinic != null && clinic.isEmpty()) {
+            return Optional.empty();
+        }
+        List<Doctor> doctors = await("doctors", doctorsPart, deadline, page);
+        if (clinic != null) {
+            // The entity's doctor list is lazy and detached here; use the separately loaded one
+            clinic.get().setDoctors(doctors != null ? doctors : List.of());
+            page.setClinic(clinic.get());
+        }
+        page.setReviews(await("reviews", reviewsPart, deadline, page));
+        List<Object[]> booked = await("freeSlots", bookedPart, deadline, page);
+        if (booked != null && doctors != null) {
+            page.setFreeSlots(freeSlots(doctors, booked, date));
+        } else if (booked != null) {
+            page.getMissing().add("freeSlots");
+        }
+        page.setSimilar(similarClinics(clinicId));
+        return Optional.of(page);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> part) {
+        try {
+            return CompletableFuture.supplyAsync(part, executor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /** Wait for a part until the shared deadline; null (and recorded as missing) if it is not there. */
+    private <T> T await(String name, CompletableFuture<T> part, long deadline, ClinicPageDTO page) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return part.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            part.cancel(false);
+            logger.warn("Clinic page part '{}' missed the {} ms deadline", name, timeoutMs);
+        } catch (ExecutionException e) {
+            logger.warn("Clinic page part '{}' failed: {}", name, e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        page.getMissing().add(name);
+        return null;
+    }
+
+    private List<SimilarClinicDTO> similarClinics(Long clinicId) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        List<SimilarClinicDTO> result = new ArrayList<>();
+        for (SimilarClinicsService.SimilarClinic similar : similarClinicsService.getSimilar(clinicId)) {
+            // Skip alternatives deleted since the lists were last repaired
+            ClinicIndex.Entry entry = snapshot.byId(similar.clinicId());
+            if (entry != null) {
+                result.add(new SimilarClinicDTO(entry, similar));
+            }
+        }
+        return result;
+    }
+
+    private ClinicPageDTO.ReviewSummary reviewSummary(Long clinicId) {
+        Map<Integer, Long> byRating = new TreeMap<>();
+        long count = 0;
+        long total = 0;
+        for (Object[] row : reviewRepository.countByRatingForHospital(clinicId)) {
+            int rating = ((Number) row[0]).intValue();
+            long n = ((Number) row[1]).longValue();
+            byRating.put(rating, n);
+            count += n;
+            total += rating * n;
+        }
+        Double average = count > 0 ? Math.round(total * 100.0 / count) / 100.0 : null;
+        return new ClinicPageDTO.ReviewSummary(count, average, byRating);
+    }
+
+    /**
+     * Free slots per doctor on the same grid the booking form offers: every 30
+     * minutes from 09:00 to 13:00 and from 14:00 to 20:00 (18:00 on Sundays).
+     * Slots already past are skipped when the date is today.
+     */
+    private Map<Long, List<String>> freeSlots(List<Doctor> doctors, List<Object[]> booked, LocalDate date) {
+        Map<Long, Set<LocalTime>> taken = new HashMap<>();
+        for (Object[] row : booked) {
+            taken.computeIfAbsent((Long) row[0], k -> new HashSet<>())
+                    .add(((LocalDateTime) row[1]).toLocalTime().withSecond(0).withNano(0));
+        }
+        List<LocalTime> grid = slotGrid(date);
+        Map<Long, List<String>> free = new LinkedHashMap<>();
+        for (Doctor doctor : doctors) {
+            Set<LocalTime> doctorTaken = taken.getOrDefault(doctor.getId(), Set.of());
+            List<String> slots = new ArrayList<>();
+            for (LocalTime slot : grid) {
+                if (!doctorTaken.contains(slot)) {
+                    slots.add(slot.format(SLOT_FORMAT));
+                }
+            }
+            free.put(doctor.getId(), slots);
+        }
+        return free;
+    }
+
+    private static List<LocalTime> slotGrid(LocalDate date) {
+        LocalTime afternoonEnd = date.getDayOfWeek() == DayOfWeek.SUNDAY ? LocalTime.of(18, 0) : LocalTime.of(20, 0);
+        LocalTime notBefore = date.equals(LocalDate.now()) ? LocalTime.now() : LocalTime.MIN;
+        List<LocalTime> grid = new ArrayList<>();
+        addSlots(grid, LocalTime.of(9, 0), LocalTime.of(13, 0), notBefore);
+        addSlots(grid, LocalTime.of(14, 0), afternoonEnd, notBefore);
+        return grid;
+    }
+
+    private static void addSlots(List<LocalTime> grid, LocalTime from, LocalTime to, LocalTime notBefore) {
+        for (LocalTime slot = from; !slot.isAfter(to); slot = slot.plusMinutes(30)) {
+            if (slot.isAfter(notBefore)) {
+                grid.add(slot);
+            }
+        }
+    }
+}
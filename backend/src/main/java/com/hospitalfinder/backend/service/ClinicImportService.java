@@ -0,0 +1,341 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospitalfinder.backend.dto.ClinicImportReport;
+import com.hospitalfinder.backend.dto.ClinicRequestDTO;
+import com.hospitalfinder.backend.entity.CatalogChange;
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.entity.Specialization;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
+import com.hospitalfinder.backend.repository.SpecializationRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streaming bulk import of clinics (with specializations and doctors) from CSV
+ * or NDJSON. Rows are read one at a time and written in chunks: clinics and
+ * their specialization links go through Hibernate's JDBC batching, doctors
+ * through a plain JDBC batch. Specializations are resolved once into a
+ * name-to-id map and duplicates are detected against an in-memory key set,
+ * so no per-row lookup queries are issued.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClinicImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinicImportService.class);
+
+    // Only the first few row errors are reported back to the caller
+    private static final int MAX_REPORTED_ERRORS = 50;
+
+    private static final String INSERT_DOCTOR_SQL = """
+            INSERT INTO doctor (name, qualifications, specialization, experience, biography, image_url, clinic_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final ClinicRepository clinicRepository;
+    private final SpecializationRepository specializationRepository;
+    private final DoctorRepository doctorRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final ClinicListingService clinicListingService;
+    private final CatalogChangeLog catalogChangeLog;
+
+    @Value("${catalog.import.chunk-size:500}")
+    private int chunkSize;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * Import every row from {@code reader}. {@code progress} receives a report
+     * after each committed chunk; the returned report is the final one.
+     */
+    public ClinicImportReport importClinics(BufferedReader reader, Format format,
+            Consumer<ClinicImportReport> progress) throws IOException {
+        long started = System.currentTimeMillis();
+        ClinicImportReport report = new ClinicImportReport();
+
+        Set<String> existingKeys = new HashSet<>(clinicRepository.findAllDuplicateKeys());
+        Map<String, Long> specIds = new HashMap<>();
+        for (Specialization spec : specializationRepository.findAll()) {
+            if (spec.getSpecialization() != null) {
+                specIds.putIfAbsent(spec.getSpecialization().toLowerCase(), spec.getId());
+            }
+        }
+
+        String[] header = null;
+        List<ClinicRequestDTO> chunk = new ArrayList<>(chunkSize);
+        // Keys of the pending chunk; they only join existingKeys once the chunk has committed
+        Set<String> chunkKeys = new HashSet<>();
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && header == null) {
+                header = parseCsvLine(line).stream().map(h -> h.trim().toLowerCase()).toArray(String[]::new);
+                continue;
+            }
+            report.setReceived(report.getReceived() + 1);
+
+            ClinicRequestDTO row;
+            try {
+                row = format == Format.CSV ? fromCsv(header, parseCsvLine(line))
+                        : objectMapper.readValue(line, ClinicRequestDTO.class);
+            } catch (Exception e) {
+                reject(report, lineNumber, "unreadable row: " + e.getMessage());
+                continue;
+            }
+            if (isBlank(row.getName()) || isBlank(row.getCity())) {
+                reject(report, lineNumber, "name and city are required");
+                continue;
+            }
+            String key = duplicateKey(row.getName(), row.getAddress(), row.getCity());
+            if (existingKeys.contains(key) || !chunkKeys.add(key)) {
+                report.setDuplicates(report.getDuplicates() + 1);
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() >= chunkSize) {
+                if (commitChunk(chunk, specIds, report, lineNumber)) {
+                    existingKeys.addAll(chunkKeys);
+                }
+                report.setElapsedMs(System.currentTimeMillis() - started);
+                progress.accept(report);
+                chunk.clear();
+                chunkKeys.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commitChunk(chunk, specIds, report, lineNumber);
+        }
+
+        report.setElapsedMs(System.currentTimeMillis() - started);
+        report.setDone(true);
+        logger.info("Clinic import finished: {} received, {} imported, {} duplicates, {} invalid in {} ms",
+                report.getReceived(), report.getImported(), report.getDuplicates(), report.getInvalid(),
+                report.getElapsedMs());
+        return report;
+    }
+
+    /** Writes one chunk; false when it was rolled back, so its rows may be sent again later in the stream. */
+    private boolean commitChunk(List<ClinicRequestDTO> rows, Map<String, Long> specIds, ClinicImportReport report,
+            long lastLine) {
+        try {
+            writeChunk(rows, specIds, report);
+            return true;
+        } catch (RuntimeException e) {
+            // The chunk was rolled back as a whole; keep going with the rest of the stream
+            logger.error("Clinic import chunk ending at line {} failed: {}", lastLine, e.getMessage());
+            report.setInvalid(report.getInvalid() + rows.size());
+            if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+                report.getErrors().add("chunk ending at line " + lastLine + " rolled back: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    private void writeChunk(List<ClinicRequestDTO> rows, Map<String, Long> specIds, ClinicImportReport report) {
+        Map<String, Long> createdSpecs = new HashMap<>();
+        List<Long> clinicIds = new ArrayList<>(rows.size());
+        int doctors = transactionTemplate.execute(status -> {
+            List<Clinic> clinics = new ArrayList<>(rows.size());
+            for (ClinicRequestDTO row : rows) {
+                Clinic clinic = toClinic(row);
+                List<Specialization> specs = new ArrayList<>();
+                for (String name : specializationNames(row)) {
+                    String key = name.toLowerCase();
+                    Long id = specIds.containsKey(key) ? specIds.get(key) : createdSpecs.get(key);
+                    if (id == null) {
+                        Specialization spec = new Specialization();
+                        spec.setSpecialization(name);
+                        entityManager.persist(spec);
+                        id = spec.getId();
+                        createdSpecs.put(key, id);
+                    }
+                    specs.add(entityManager.getReference(Specialization.class, id));
+                }
+                clinic.setSpecializations(specs);
+                entityManager.persist(clinic);
+                clinics.add(clinic);
+            }
+            // Push clinics and join rows as JDBC batches so doctor rows can reference the ids
+            entityManager.flush();
+            clinics.forEach(clinic -> clinicIds.add(clinic.getId()));
+
+            List<Object[]> doctorRows = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                List<Doctor> rowDoctors = rows.get(i).getDoctors();
+                if (rowDoctors == null) {
+                    continue;
+                }
+                Long clinicId = clinics.get(i).getId();
+                for (Doctor doctor : rowDoctors) {
+                    doctorRows.add(new Object[] { doctor.getName(), doctor.getQualifications(),
+                            doctor.getSpecialization(), doctor.getExperience(), doctor.getBiography(),
+                            doctor.getImageUrl(), clinicId });
+                }
+            }
+            if (!doctorRows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_DOCTOR_SQL, doctorRows);
+            }
+            entityManager.clear();
+            // Same transaction, so listing rows and change-log entries commit or roll back with the chunk
+            clinicListingService.refresh(clinicIds);
+            catalogChangeLog.record(CatalogChange.EntityType.SPECIALIZATION, CatalogChange.Operation.UPSERT,
+                    createdSpecs.values());
+            catalogChangeLog.record(CatalogChange.EntityType.CLINIC, CatalogChange.Operation.UPSERT, clinicIds);
+            if (!doctorRows.isEmpty()) {
+                catalogChangeLog.record(CatalogChange.EntityType.DOCTOR, CatalogChange.Operation.UPSERT,
+                        doctorRepository.findIdsByClinicIdIn(clinicIds));
+            }
+            return doctorRows.size();
+        });
+
+        // Only publish new specialization ids once their transaction committed
+        specIds.putAll(createdSpecs);
+        report.setImported(report.getImported() + rows.size());
+        report.setSpecializationsCreated(report.getSpecializationsCreated() + createdSpecs.size());
+        report.setDoctorsImported(report.getDoctorsImported() + doctors);
+        catalogVersion.bump(clinicIds);
+        logger.info("Clinic import progress: {} imported, {} duplicates, {} invalid",
+                report.getImported(), report.getDuplicates(), report.getInvalid());
+    }
+
+    private Clinic toClinic(ClinicRequestDTO row) {
+        Clinic clinic = new Clinic();
+        clinic.setName(row.getName().trim());
+        clinic.setAddress(row.getAddress());
+        clinic.setCity(row.getCity().trim());
+        clinic.setLatitude(row.getLatitude());
+        clinic.setLongitude(row.getLongitude());
+        clinic.setPhone(row.getPhone());
+        clinic.setWebsite(row.getWebsite());
+        clinic.setTimings(row.getTimings());
+        clinic.setRating(row.getRating());
+        clinic.setReviews(row.getReviews());
+        clinic.setImageUrl(row.getImageUrl());
+        return clinic;
+    }
+
+    private Set<String> specializationNames(ClinicRequestDTO row) {
+        Set<String> names = new LinkedHashSet<>();
+        if (row.getSpecializations() != null) {
+            for (String name : row.getSpecializations()) {
+                if (!isBlank(name)) {
+                    names.add(name.trim());
+                }
+            }
+        }
+        return names;
+    }
+
+    private void reject(ClinicImportReport report, long lineNumber, String reason) {
+        report.setInvalid(report.getInvalid() + 1);
+        if (report.getErrors().size() < MAX_REPORTED_ERRORS) {
+            report.getErrors().add("line " + lineNumber + ": " + reason);
+        }
+    }
+
+    /** Same identity rule as {@code existsByNameIgnoreCaseAndAddressIgnoreCaseAndCityIgnoreCase}. */
+    private static String duplicateKey(String name, String address, String city) {
+        return (name.trim() + "|" + (address != null ? address.trim() : "") + "|" + city.trim()).toLowerCase();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Map a CSV record onto the request DTO by header name. Specializations are
+     * separated by '|' or ';' inside their column.
+     */
+    private ClinicRequestDTO fromCsv(String[] header, List<String> values) {
+        ClinicRequestDTO row = new ClinicRequestDTO();
+        for (int i = 0; i < header.length && i < values.size(); i++) {
+            String value = values.get(i).trim();
+            if (value.isEmpty()) {
+                continue;
+            }
+            switch (header[i]) {
+                case "name" -> row.setName(value);
+                case "address" -> row.setAddress(value);
+                case "city" -> row.setCity(value);
+                case "latitude" -> row.setLatitude(Double.parseDouble(value));
+                case "longitude" -> row.setLongitude(Double.parseDouble(value));
+                case "phone" -> row.setPhone(value);
+                case "website" -> row.setWebsite(value);
+                case "timings" -> row.setTimings(value);
+                case "rating" -> row.setRating(Double.parseDouble(value));
+                case "reviews" -> row.setReviews(Integer.parseInt(value));
+                case "imageurl" -> row.setImageUrl(value);
+                case "specializations" -> row.setSpecializations(Arrays.asList(value.split("[|;]")));
+                default -> {
+                    // Unknown columns are ignored
+                }
+            }
+        }
+        return row;
+    }
+
+    /** Split one CSV line, honouring double-quoted fields and "" escapes. */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
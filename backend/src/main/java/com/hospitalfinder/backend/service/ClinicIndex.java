@@ -0,0 +1,355 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.hospitalfinder.backend.entity.ClinicListing;
+import com.hospitalfinder.backend.repository.ClinicListingRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * In-memory, read-only view of the clinic catalog with posting lists per city
+ * and per specialization. Snapshots are immutable, tagged with the
+ * {@link CatalogVersion} they were built at, and rebuilt lazily once the
+ * catalog moves on, so readers never see a half-built index. Snapshots load
+ * from the flat {@code clinic_listing} table, one row per clinic. On a first
+ * deploy that table is still empty while the startup reconcile runs, so the
+ * first build waits (up to {@code catalog.listing.startup-wait-ms}) for it
+ * rather than publish an empty catalog.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClinicIndex {
+
+    private final ClinicListingRepository clinicListingRepository;
+    private final CatalogVersion catalogVersion;
+
+    @Value("${catalog.listing.startup-wait-ms:30000}")
+    private long startupWaitMs;
+
+    private final CompletableFuture<Void> listingReconciled = new CompletableFuture<>();
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version == catalogVersion.current()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current == null) {
+                awaitFirstListing();
+            }
+            // Read the version before loading so a concurrent write forces another rebuild
+            long target = catalogVersion.current();
+            if (current == null || current.version != target) {
+                current = build(target);
+                snapshot = current;
+            }
+            return current;
+        }
+    }
+
+    /** Called by the startup reconcile once its rows are committed (or it gave up). */
+    public void listingReconciled() {
+        listingReconciled.complete(null);
+    }
+
+    private void awaitFirstListing() {
+        if (listingReconciled.isDone() || clinicListingRepository.count() > 0) {
+            return;
+        }
+        try {
+            listingReconciled.get(startupWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Build from what is there
+        }
+    }
+
+    /**
+     * Install a snapshot decoded from disk as current, so reads can be served
+     * before the database was queried. Ignored once a snapshot exists.
+     */
+    public synchronized boolean preload(List<Entry> entries, Map<String, Integer> specOrdinals) {
+        if (snapshot != null) {
+            return false;
+        }
+        snapshot = new Snapshot(catalogVersion.current(), entries, specOrdinals);
+        return true;
+    }
+
+    private Snapshot build(long target) {
+        List<ClinicListing> clinics = clinicListingRepository.findAll();
+        // Stable id order so list endpoints have a deterministic base ordering
+        clinics.sort(Comparator.comparing(ClinicListing::getClinicId));
+        Map<String, Integer> specOrdinals = new LinkedHashMap<>();
+        List<Entry> entries = new ArrayList<>(clinics.size());
+
+        for (ClinicListing clinic : clinics) {
+            List<String> specNames = new ArrayList<>();
+            BitSet specMask = new BitSet();
+            for (String name : ClinicListingService.specializations(clinic)) {
+                specNames.add(name);
+                specMask.set(specOrdinals.computeIfAbsent(name.toLowerCase(), k -> specOrdinals.size()));
+            }
+            entries.add(new Entry(
+                    clinic.getClinicId(),
+                    clinic.getName(),
+                    clinic.getAddress(),
+                    clinic.getCity(),
+                    clinic.getLatitude(),
+                    clinic.getLongitude(),
+                    clinic.getPhone(),
+                    clinic.getImageUrl(),
+                    clinic.getRating(),
+                    clinic.getReviews(),
+                    Collections.unmodifiableList(specNames),
+                    specMask));
+        }
+        return new Snapshot(target, entries, specOrdinals);
+    }
+
+    /**
+     * Card-level fields of a clinic plus its specialization bitmask. Bits refer to
+     * ordinals of the owning {@link Snapshot}.
+     */
+    public record Entry(
+            Long id,
+            String name,
+            String address,
+            String city,
+            Double latitude,
+            Double longitude,
+            String phone,
+            String imageUrl,
+            Double rating,
+            Integer reviews,
+            List<String> specializations,
+            BitSet specMask) {
+
+        public boolean hasLocation() {
+            return latitude != null && longitude != null;
+        }
+    }
+
+    /** An entry placed relative to the caller: distance (km) and travel time (min), if known. */
+    public record Hit(Entry entry, Double distance, Integer estimatedTime) {
+
+        public static Hit of(Entry entry, Double lat, Double lng) {
+            if (lat == null || lng == null || !entry.hasLocation()) {
+                return new Hit(entry, null, null);
+            }
+            double distance = GeoDistance.haversineKm(lat, lng, entry.latitude(), entry.longitude());
+            return new Hit(entry, distance, GeoDistance.estimateTravelMinutes(distance));
+        }
+    }
+
+    public static final class Snapshot {
+        private final long version;
+        private final List<Entry> entries;
+        private final Map<Long, Integer> positionById = new HashMap<>();
+        private final Map<String, Integer> cityOrdinals = new HashMap<>();
+        private final List<String> cityNames = new ArrayList<>();
+        private final List<BitSet> byCity = new ArrayList<>();
+        private final int[] cityOrdinalByPosition;
+        private final Map<String, Integer> specOrdinals;
+        private final String[] specNames;
+        private final List<BitSet> bySpec = new ArrayList<>();
+        // Lower-cased text fields by position, so searches don't re-lowercase per query
+        private final String[] nameLower;
+        private final String[] addressLower;
+        private final String[] cityLower;
+        private final int maxReviews;
+
+        Snapshot(long version, List<Entry> entries, Map<String, Integer> specOrdinals) {
+            this.version = version;
+            this.entries = Collections.unmodifiableList(entries);
+            this.specOrdinals = Collections.unmodifiableMap(specOrdinals);
+            for (int i = 0; i < specOrdinals.size(); i++) {
+                bySpec.add(new BitSet(entries.size()));
+            }
+            this.specNames = new String[specOrdinals.size()];
+            this.cityOrdinalByPosition = new int[entries.size()];
+            this.nameLower = new String[entries.size()];
+            this.addressLower = new String[entries.size()];
+            this.cityLower = new String[entries.size()];
+
+            int reviewsCeiling = 0;
+            for (int pos = 0; pos < entries.size(); pos++) {
+                Entry entry = entries.get(pos);
+                positionById.put(entry.id(), pos);
+                nameLower[pos] = entry.name() != null ? entry.name().toLowerCase() : "";
+                addressLower[pos] = entry.address() != null ? entry.address().toLowerCase() : "";
+                cityLower[pos] = entry.city() != null ? entry.city().toLowerCase() : "";
+                cityOrdinalByPosition[pos] = -1;
+                if (entry.city() != null) {
+                    int ordinal = cityOrdinals.computeIfAbsent(cityLower[pos], k -> {
+                        // First spelling seen becomes the display name
+                        cityNames.add(entry.city());
+                        byCity.add(new BitSet());
+                        return cityNames.size() - 1;
+                    });
+                    byCity.get(ordinal).set(pos);
+                    cityOrdinalByPosition[pos] = ordinal;
+                }
+                BitSet mask = entry.specMask();
+                for (int bit = mask.nextSetBit(0); bit >= 0; bit = mask.nextSetBit(bit + 1)) {
+                    bySpec.get(bit).set(pos);
+                }
+                for (String spec : entry.specializations()) {
+                    int ordinal = specOrdinals.get(spec.toLowerCase());
+                    if (specNames[ordinal] == null) {
+                        specNames[ordinal] = spec;
+                    }
+                }
+                if (entry.reviews() != null) {
+                    reviewsCeiling = Math.max(reviewsCeiling, entry.reviews());
+                }
+            }
+            this.maxReviews = reviewsCeiling;
+        }
+
+        /** Catalog version this snapshot reflects. */
+        public long version() {
+            return version;
+        }
+
+        public List<Entry> entries() {
+            return entries;
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        public Entry get(int position) {
+            return entries.get(position);
+        }
+
+        public Entry byId(Long id) {
+            Integer pos = positionById.get(id);
+            return pos == null ? null : entries.get(pos);
+        }
+
+        /** Position of a clinic in this snapshot, or -1 if it is not in it. */
+        public int position(Long id) {
+            return positionById.getOrDefault(id, -1);
+        }
+
+        public int maxReviews() {
+            return maxReviews;
+        }
+
+        public String nameLower(int position) {
+            return nameLower[position];
+        }
+
+        public String addressLower(int position) {
+            return addressLower[position];
+        }
+
+        public String cityLower(int position) {
+            return cityLower[position];
+        }
+
+        /** Whether the clinic at a position contains the lower-cased text in its name, address or city. */
+        public boolean textMatches(int position, String textLower, boolean includeCity) {
+            return nameLower[position].contains(textLower)
+                    || addressLower[position].contains(textLower)
+                    || (includeCity && cityLower[position].contains(textLower));
+        }
+
+        public int cityCount() {
+            return cityNames.size();
+        }
+
+        public String cityName(int ordinal) {
+            return cityNames.get(ordinal);
+        }
+
+        /** City ordinal of the clinic at a position, or -1 if it has no city. */
+        public int cityOrdinalAt(int position) {
+            return cityOrdinalByPosition[position];
+        }
+
+        public int specCount() {
+            return specNames.length;
+        }
+
+        public String specName(int ordinal) {
+            return specNames[ordinal];
+        }
+
+        /** Ordinal of a specialization name (case-insensitive), or -1 if unknown. */
+        public int specOrdinal(String specialization) {
+            if (specialization == null) {
+                return -1;
+            }
+            return specOrdinals.getOrDefault(specialization.toLowerCase(), -1);
+        }
+
+        /** Fresh bitset with every clinic position set. */
+        public BitSet all() {
+            BitSet bits = new BitSet(entries.size());
+            bits.set(0, entries.size());
+            return bits;
+        }
+
+        /** Fresh bitset of clinics in the given city (exact, case-insensitive). */
+        public BitSet city(String city) {
+            Integer ordinal = cityOrdinals.get(city.toLowerCase());
+            return ordinal == null ? new BitSet() : (BitSet) byCity.get(ordinal).clone();
+        }
+
+        /** Fresh bitset of clinics offering at least one of the specializations. */
+        public BitSet anySpec(Collection<String> specializations) {
+            BitSet bits = new BitSet(entries.size());
+            for (String spec : specializations) {
+                int ordinal = specOrdinal(spec);
+                if (ordinal >= 0) {
+                    bits.or(bySpec.get(ordinal));
+                }
+            }
+            return bits;
+        }
+
+        /** Fresh bitset of clinics offering at least one of the specializations in a mask. */
+        public BitSet anySpecOrdinals(BitSet specMask) {
+            BitSet bits = new BitSet(entries.size());
+            for (int bit = specMask.nextSetBit(0); bit >= 0; bit = specMask.nextSetBit(bit + 1)) {
+                bits.or(bySpec.get(bit));
+            }
+            return bits;
+        }
+
+        /** Mask with the bits of the given specializations; unknown names are skipped. */
+        public BitSet specMask(Collection<String> specializations) {
+            BitSet mask = new BitSet();
+            for (String spec : specializations) {
+                int ordinal = specOrdinal(spec);
+                if (ordinal >= 0) {
+                    mask.set(ordinal);
+                }
+            }
+            return mask;
+        }
+    }
+}
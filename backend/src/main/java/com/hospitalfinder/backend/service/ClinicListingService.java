@@ -0,0 +1,165 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.ClinicListing;
+import com.hospitalfinder.backend.entity.Specialization;
+import com.hospitalfinder.backend.repository.ClinicListingRepository;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps the {@code clinic_listing} read model in step with the catalog. Write
+ * paths call {@link #refresh(Collection)} with the clinics they touched before
+ * bumping the {@link CatalogVersion}, so anything rebuilt for the new version
+ * already reads the new rows. The whole table is reconciled in the background
+ * at startup, after which the index is rebuilt from it; until then reads are
+ * served from whatever the index started with (e.g. the on-disk snapshot, or
+ * the rows committed before the reconcile). If the reconcile fails, the index
+ * is rebuilt from the table as it stands. Refreshes and the reconcile take
+ * the same transaction-scoped advisory lock on PostgreSQL, so they never
+ * rewrite the same rows concurrently.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClinicListingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClinicListingService.class);
+
+    // Arbitrary key of the advisory lock that serializes writers of clinic_listing
+    private static final long LISTING_LOCK_KEY = 0x636c6e6c7374L;
+
+    private final ClinicListingRepository clinicListingRepository;
+    private final ClinicRepository clinicRepository;
+    private final CatalogVersion catalogVersion;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ClinicIndex clinicIndex;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseProduct databaseProduct;
+
+    /** Rewrite the rows of the given clinics; clinics that no longer exist lose their row. */
+    @Transactional
+    public void refresh(Collection<Long> clinicIds) {
+        Set<Long> ids = new HashSet<>(clinicIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Read the clinics only once any running reconcile has committed
+        lockListing();
+        List<Clinic> clinics = clinicRepository.findAllWithSpecializationsByIdIn(ids);
+        // Delete and re-insert: avoids a select per row that merging assigned ids would cost
+        clinicListingRepository.deleteAllByIdInBatch(ids);
+        insert(toListings(clinics));
+    }
+
+    @Transactional
+    public void refresh(Long clinicId) {
+        refresh(List.of(clinicId));
+    }
+
+    /**
+     * Rebuild every row from the normalized tables. Other transactions keep
+     * reading the previous rows until this one commits.
+     */
+    @Transactional
+    public int refreshAll() {
+        lockListing();
+        List<Clinic> clinics = clinicRepository.findAllWithSpecializations();
+        clinicListingRepository.deleteAllInBatch();
+        insert(toListings(clinics));
+        return clinics.size();
+    }
+
+    // Held until the surrounding transaction ends. H2 (tests) has no advisory locks and runs one instance.
+    private void lockListing() {
+        if (databaseProduct.isPostgres()) {
+            jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, LISTING_LOCK_KEY);
+        }
+    }
+
+    private void insert(List<ClinicListing> listings) {
+        for (ClinicListing listing : listings) {
+            entityManager.persist(listing);
+        }
+        entityManager.flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        Thread reconcile = new Thread(this::reconcile, "catalog-reconcile");
+        reconcile.setDaemon(true);
+        reconcile.start();
+    }
+
+    private void reconcile() {
+        long started = System.currentTimeMillis();
+        try {
+            // Called on this bean directly, so open the transaction here rather than through the proxy
+            int rows = transactionTemplate.execute(status -> refreshAll());
+            // Anything derived from the listing before this point is out of date
+            catalogVersion.bump();
+            clinicIndex.listingReconciled();
+            // Rebuild now rather than on the next request
+            clinicIndex.snapshot();
+            logger.info("clinic_listing reconciled: {} rows in {} ms", rows, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.error("clinic_listing reconcile failed: {}", e.getMessage());
+            // A preloaded disk snapshot may be older than the table: retire it so the next read
+            // rebuilds from the rows already there, rather than keep readers waiting
+            catalogVersion.bump();
+            clinicIndex.listingReconciled();
+        }
+    }
+
+    private List<ClinicListing> toListings(List<Clinic> clinics) {
+        List<ClinicListing> listings = new ArrayList<>(clinics.size());
+        for (Clinic clinic : clinics) {
+            ClinicListing listing = new ClinicListing();
+            listing.setClinicId(clinic.getId());
+            listing.setName(clinic.getName());
+            listing.setAddress(clinic.getAddress());
+            listing.setCity(clinic.getCity());
+            listing.setLatitude(clinic.getLatitude());
+            listing.setLongitude(clinic.getLongitude());
+            listing.setPhone(clinic.getPhone());
+            listing.setImageUrl(clinic.getImageUrl());
+            listing.setRating(clinic.getRating());
+            listing.setReviews(clinic.getReviews());
+
+            List<String> names = new ArrayList<>();
+            for (Specialization spec : clinic.getSpecializations()) {
+                if (spec.getSpecialization() == null || spec.getSpecialization().isBlank()) {
+                    continue;
+                }
+                names.add(spec.getSpecialization());
+            }
+            listing.setSpecializations(names);
+            listings.add(listing);
+        }
+        return listings;
+    }
+
+    /** Specialization names of a listing row, in link order. */
+    public static List<String> specializations(ClinicListing listing) {
+        List<String> names = listing.getSpecializations();
+        return names == null ? List.of() : names;
+    }
+}
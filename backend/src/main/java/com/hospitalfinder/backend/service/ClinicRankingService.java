@@ -0,0 +1,248 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Single scoring model for clinic search. Candidates come from the
+ * {@link ClinicIndex} posting lists; every candidate gets a weighted score
+ * built from text relevance, specialization overlap, rating, review count and
+ * proximity, and only the best {@code limit} are kept in a bounded min-heap.
+ */
+@Service
+@RequiredArgsConstructor
+public class ClinicRankingService {
+
+    // Worst result at the head of the heap so it can be evicted in O(log k)
+    private static final Comparator<RankedClinic> WORST_FIRST = Comparator
+            .comparingDouble(RankedClinic::score)
+            .thenComparing(r -> r.entry().id(), Comparator.reverseOrder());
+
+    private final ClinicIndex clinicIndex;
+
+    @Value("${search.ranking.weights.text:3.0}")
+    private double textWeight;
+    @Value("${search.ranking.weights.specialization:4.0}")
+    private double specializationWeight;
+    @Value("${search.ranking.weights.rating:1.5}")
+    private double ratingWeight;
+    @Value("${search.ranking.weights.reviews:0.5}")
+    private double reviewsWeight;
+    @Value("${search.ranking.weights.distance:2.0}")
+    private double distanceWeight;
+    // Distance at which the proximity score drops to one half
+    @Value("${search.ranking.distance-scale-km:5.0}")
+    private double distanceScaleKm;
+    @Value("${search.ranking.max-results:100}")
+    private int maxResults;
+
+    public List<RankedClinic> rank(String search, String city, List<String> specializations,
+            Double lat, Double lng, int limit) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        List<String> normalizedSpecs = normalize(specializations);
+        BitSet candidates = city != null && !city.isBlank() ? snapshot.city(city.trim()) : snapshot.all();
+        if (!normalizedSpecs.isEmpty()) {
+            candidates.and(snapshot.anySpec(normalizedSpecs));
+        }
+        return score(snapshot, candidates, search, normalizedSpecs, lat, lng, limit);
+    }
+
+    /**
+     * The {@code count} clinics nearest to a point, taken from the current
+     * snapshot with their specialization bitmasks. Chat computes this while
+     * the LLM works out the specializations, then narrows it with
+     * {@link #rank(Nearby, List, int)}.
+     */
+    public Nearby nearest(double lat, double lng, int count) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        // Farthest of the nearest at the head, so it can be evicted in O(log count)
+        PriorityQueue<double[]> heap = new PriorityQueue<>(count + 1,
+                Comparator.comparingDouble((double[] hit) -> hit[1]).reversed());
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            ClinicIndex.Entry entry = snapshot.get(pos);
+            if (!entry.hasLocation()) {
+                continue;
+            }
+            double distance = GeoDistance.haversineKm(lat, lng, entry.latitude(), entry.longitude());
+            if (heap.size() < count) {
+                heap.add(new double[] { pos, distance });
+            } else if (!heap.isEmpty() && distance < heap.peek()[1]) {
+                heap.poll();
+                heap.add(new double[] { pos, distance });
+            }
+        }
+        BitSet positions = new BitSet(snapshot.size());
+        for (double[] hit : heap) {
+            positions.set((int) hit[0]);
+        }
+        // Every located clinic outside the set is at least this far away; none are when the heap never filled
+        double radiusKm = heap.size() == count && !heap.isEmpty() ? heap.peek()[1] : Double.POSITIVE_INFINITY;
+        return new Nearby(snapshot, positions, lat, lng, radiusKm);
+    }
+
+    /**
+     * Same result as {@link #rank(String, String, List, Double, Double, int)}
+     * without search text or city, computed within a prefetched {@link Nearby}
+     * set when that provably gives the same answer: the k-th best score inside
+     * the set must beat the best score any clinic outside could reach (full
+     * specialization match, rating and reviews, at the set's radius).
+     * Otherwise, or when the catalog changed since the prefetch, the full
+     * catalog is ranked, so a highly rated specialist just outside the set is
+     * not lost.
+     */
+    public List<RankedClinic> rank(Nearby nearby, List<String> specializations, int limit) {
+        List<String> normalizedSpecs = normalize(specializations);
+        ClinicIndex.Snapshot snapshot = nearby.snapshot();
+        int k = Math.max(1, Math.min(limit, maxResults));
+        if (snapshot == clinicIndex.snapshot()) {
+            BitSet candidates = (BitSet) nearby.positions().clone();
+            if (!normalizedSpecs.isEmpty()) {
+                candidates.and(snapshot.anySpec(normalizedSpecs));
+            }
+            if (candidates.cardinality() >= k) {
+                List<RankedClinic> ranked = score(snapshot, candidates, null, normalizedSpecs, nearby.lat(),
+                        nearby.lng(), limit);
+                // Strictly above: an outside clinic with an equal score could still win the id tie-break
+                if (ranked.size() >= k && ranked.get(k - 1).score() > outsideBound(nearby, normalizedSpecs)) {
+                    return ranked;
+                }
+            }
+        }
+        return rank(null, null, specializations, nearby.lat(), nearby.lng(), limit);
+    }
+
+    // Highest score a clinic outside the nearby set can have; clinics without a location get no proximity
+    private double outsideBound(Nearby nearby, List<String> normalizedSpecs) {
+        double proximity = Double.isInfinite(nearby.radiusKm()) ? 0
+                : 1.0 / (1.0 + nearby.radiusKm() / distanceScaleKm);
+        return (normalizedSpecs.isEmpty() ? 0 : specializationWeight)
+                + ratingWeight
+                + reviewsWeight
+                + distanceWeight * proximity;
+    }
+
+    private static List<String> normalize(List<String> specializations) {
+        return specializations == null ? List.of()
+                : specializations.stream()
+                        .filter(spec -> spec != null && !spec.isBlank())
+                        .map(spec -> spec.trim().toLowerCase())
+                        .distinct()
+                        .collect(Collectors.toList());
+    }
+
+    private List<RankedClinic> score(ClinicIndex.Snapshot snapshot, BitSet candidates, String search,
+            List<String> normalizedSpecs, Double lat, Double lng, int limit) {
+        int k = Math.max(1, Math.min(limit, maxResults));
+        BitSet wantedSpecs = snapshot.specMask(normalizedSpecs);
+
+        String query = search != null && !search.isBlank() ? search.trim().toLowerCase() : null;
+        String[] queryTokens = query != null ? query.split("\\s+") : new String[0];
+        boolean located = lat != null && lng != null;
+        double reviewsNorm = Math.log1p(snapshot.maxReviews());
+
+        PriorityQueue<RankedClinic> heap = new PriorityQueue<>(k + 1, WORST_FIRST);
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            ClinicIndex.Entry entry = snapshot.get(pos);
+
+            double text = 0;
+            if (query != null) {
+                text = textScore(snapshot, pos, query, queryTokens);
+                if (text == 0) {
+                    continue;
+                }
+            }
+
+            double specMatch = 0;
+            if (!normalizedSpecs.isEmpty()) {
+                BitSet overlap = (BitSet) entry.specMask().clone();
+                overlap.and(wantedSpecs);
+                specMatch = (double) overlap.cardinality() / normalizedSpecs.size();
+            }
+
+            double rating = entry.rating() != null ? Math.max(0, Math.min(1, entry.rating() / 5.0)) : 0;
+            double reviews = reviewsNorm > 0 && entry.reviews() != null && entry.reviews() > 0
+                    ? Math.log1p(entry.reviews()) / reviewsNorm
+                    : 0;
+
+            Double distance = null;
+            Integer estimatedTime = null;
+            double proximity = 0;
+            if (located && entry.hasLocation()) {
+                distance = GeoDistance.haversineKm(lat, lng, entry.latitude(), entry.longitude());
+                estimatedTime = GeoDistance.estimateTravelMinutes(distance);
+                proximity = 1.0 / (1.0 + distance / distanceScaleKm);
+            }
+
+            double score = textWeight * text
+                    + specializationWeight * specMatch
+                    + ratingWeight * rating
+                    + reviewsWeight * reviews
+                    + distanceWeight * proximity;
+
+            RankedClinic ranked = new RankedClinic(entry, score, distance, estimatedTime);
+            if (heap.size() < k) {
+                heap.add(ranked);
+            } else if (WORST_FIRST.compare(ranked, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(ranked);
+            }
+        }
+
+        List<RankedClinic> results = new ArrayList<>(heap);
+        results.sort(WORST_FIRST.reversed());
+        return results;
+    }
+
+    /**
+     * Text relevance in [0, 1]. A phrase hit on the name scores highest; otherwise
+     * every query token has to appear in the name, address or city, with name hits
+     * weighted double. Returns 0 when the clinic does not match at all.
+     */
+    private double textScore(ClinicIndex.Snapshot snapshot, int pos, String query, String[] tokens) {
+        String name = snapshot.nameLower(pos);
+        if (name.equals(query)) {
+            return 1.0;
+        }
+        if (name.startsWith(query)) {
+            return 0.9;
+        }
+        if (name.contains(query)) {
+            return 0.75;
+        }
+
+        String address = snapshot.addressLower(pos);
+        String city = snapshot.cityLower(pos);
+        double sum = 0;
+        for (String token : tokens) {
+            if (name.contains(token)) {
+                sum += 1.0;
+            } else if (address.contains(token) || city.contains(token)) {
+                sum += 0.5;
+            } else {
+                return 0;
+            }
+        }
+        return 0.6 * sum / tokens.length;
+    }
+
+    public record RankedClinic(ClinicIndex.Entry entry, double score, Double distance, Integer estimatedTime) {
+    }
+
+    /**
+     * Nearest clinics to a point, as positions in the snapshot they were taken
+     * from. {@code radiusKm} is the distance of the farthest of them, or
+     * infinity when the set holds every clinic with a location.
+     */
+    public record Nearby(ClinicIndex.Snapshot snapshot, BitSet positions, double lat, double lng,
+            double radiusKm) {
+    }
+}
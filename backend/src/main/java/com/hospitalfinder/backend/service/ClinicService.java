@@ -1,16 +1,26 @@
 package com.hospitalfinder.backend.service;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hospitalfinder.backend.dto.ClinicFacetsDTO;
 import com.hospitalfinder.backend.dto.ClinicRequestDTO;
 import com.hospitalfinder.backend.dto.ClinicResponseDTO;
-import com.hospitalfinder.backend.dto.ClinicSummaryDTO;
+import com.hospitalfinder.backend.entity.CatalogChange;
 import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
 import com.hospitalfinder.backend.entity.Specialization;
 import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
 import com.hospitalfinder.backend.repository.SpecializationRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -21,92 +31,209 @@ public class ClinicService {
 
     private final ClinicRepository clinicRepository;
     private final SpecializationRepository specializationRepository;
+    private final DoctorRepository doctorRepository;
+    private final CatalogVersion catalogVersion;
+    private final ClinicIndex clinicIndex;
+    private final ClinicListingService clinicListingService;
+    private final CatalogChangeLog catalogChangeLog;
 
-    public List<ClinicSummaryDTO> getFilteredClinics(String city, List<String> specializations, String search,
+    // Radius for the "nearby" listing
+    private static final double NEARBY_RADIUS_KM = 5.0;
+
+    /**
+     * Clinics for the main listing, optionally narrowed by city, specializations
+     * (clinics with more matches first) and a free-text search.
+     */
+    public List<ClinicIndex.Hit> getFilteredClinics(String city, List<String> specializations, String search,
             Double lat, Double lng) {
-        List<Clinic> clinics;
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
 
         // Start with city-filtered list if provided, otherwise all clinics
-        if (city != null) {
-            clinics = clinicRepository.findByCityIgnoreCase(city);
-        } else {
-            clinics = clinicRepository.findAll();
-        }
+        BitSet candidates = city != null ? snapshot.city(city) : snapshot.all();
 
         // Normalize specialization filters to lower-case for matching
-        List<String> normalizedSpecs = specializations == null ? List.of()
-                : specializations.stream()
-                        .filter(spec -> spec != null && !spec.isBlank())
-                        .map(spec -> spec.toLowerCase())
-                        .collect(Collectors.toList());
-
-        // Filter by specialization matches (multi-select). Keep only clinics with >=1
-        // match when filters provided.
+        List<String> normalizedSpecs = normalizeSpecs(specializations);
+        BitSet wanted = snapshot.specMask(normalizedSpecs);
         if (!normalizedSpecs.isEmpty()) {
-            clinics = clinics.stream()
-                    .filter(clinic -> getMatchCount(clinic, normalizedSpecs) > 0)
-                    .sorted((a, b) -> Integer.compare(
-                            getMatchCount(b, normalizedSpecs),
-                            getMatchCount(a, normalizedSpecs)))
-                    .collect(Collectors.toList());
+            candidates.and(snapshot.anySpec(normalizedSpecs));
         }
 
         // Apply search filter if provided
-        if (search != null && !search.isEmpty()) {
-            String searchLower = search.toLowerCase();
-            clinics = clinics.stream()
-                    .filter(clinic -> clinic.getName().toLowerCase().contains(searchLower) ||
-                            (clinic.getAddress() != null && clinic.getAddress().toLowerCase().contains(searchLower)) ||
-                            (clinic.getCity() != null && clinic.getCity().toLowerCase().contains(searchLower)))
-                    .collect(Collectors.toList());
-        }
-
-        return clinics.stream()
-                .map(clinic -> {
-                    Double distance = null;
-                    Integer estimatedTime = null;
-                    if (lat != null && lng != null && clinic.getLatitude() != null && clinic.getLongitude() != null) {
-                        distance = calculateDistance(lat, lng, clinic.getLatitude(), clinic.getLongitude());
-
-                        double speed;
-                        if (distance < 5)
-                            speed = 20.0;
-                        else if (distance < 20)
-                            speed = 30.0;
-                        else
-                            speed = 40.0;
-                        estimatedTime = (int) Math.round(distance / speed * 60);
-                    }
-                    return new ClinicSummaryDTO(clinic, distance, estimatedTime);
-                })
-                .collect(Collectors.toList());
+        String searchLower = search != null && !search.isEmpty() ? search.toLowerCase() : null;
+
+        List<ClinicIndex.Hit> hits = new ArrayList<>();
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            if (searchLower != null && !snapshot.textMatches(pos, searchLower, true)) {
+                continue;
+            }
+            hits.add(ClinicIndex.Hit.of(snapshot.get(pos), lat, lng));
+        }
+
+        // Keep clinics with more specialization matches first (stable for ties)
+        if (!normalizedSpecs.isEmpty()) {
+            hits.sort(Comparator.comparingInt((ClinicIndex.Hit hit) -> matchCount(hit.entry(), wanted)).reversed());
+        }
+        return hits;
+    }
+
+    /**
+     * Clinics within {@link #NEARBY_RADIUS_KM} of the caller, nearest first. City
+     * and specialization filters are substring matches.
+     */
+    public List<ClinicIndex.Hit> getNearbyClinics(double lat, double lng, String city, String specialization) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        String cityLower = city != null && !city.isEmpty() ? city.toLowerCase() : null;
+        String specLower = specialization != null && !specialization.isEmpty() ? specialization.toLowerCase() : null;
+
+        List<ClinicIndex.Hit> hits = new ArrayList<>();
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            ClinicIndex.Entry entry = snapshot.get(pos);
+            if (!entry.hasLocation()) {
+                continue;
+            }
+            if (cityLower != null && (entry.city() == null || !snapshot.cityLower(pos).contains(cityLower))) {
+                continue;
+            }
+            if (specLower != null && entry.specializations().stream()
+                    .noneMatch(spec -> spec.toLowerCase().contains(specLower))) {
+                continue;
+            }
+            ClinicIndex.Hit hit = ClinicIndex.Hit.of(entry, lat, lng);
+            if (hit.distance() <= NEARBY_RADIUS_KM) {
+                hits.add(hit);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(ClinicIndex.Hit::distance));
+        return hits;
+    }
+
+    /**
+     * All clinics ordered by distance from the caller. When specializations are
+     * given, only matching clinics are kept and more matches rank first.
+     */
+    public List<ClinicIndex.Hit> getClinicsSortedByDistance(double lat, double lng, String city,
+            List<String> specializations, String search) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+
+        // Apply city filter if specified
+        BitSet candidates = city != null && !city.isEmpty() ? snapshot.city(city) : snapshot.all();
+
+        // Normalize specialization filters (multi-select) for matching
+        List<String> normalizedSpecs = normalizeSpecs(specializations);
+        BitSet wanted = snapshot.specMask(normalizedSpecs);
+        if (!normalizedSpecs.isEmpty()) {
+            candidates.and(snapshot.anySpec(normalizedSpecs));
+        }
+
+        // Apply search filter if specified
+        String searchLower = search != null && !search.isEmpty() ? search.toLowerCase() : null;
+
+        List<ClinicIndex.Hit> hits = new ArrayList<>();
+        for (int pos = candidates.nextSetBit(0); pos >= 0; pos = candidates.nextSetBit(pos + 1)) {
+            if (searchLower != null && !snapshot.textMatches(pos, searchLower, false)) {
+                continue;
+            }
+            hits.add(ClinicIndex.Hit.of(snapshot.get(pos), lat, lng));
+        }
+
+        // Sort: when specs provided -> matchCount desc then distance asc; otherwise
+        // distance asc. Clinics without coordinates go last.
+        Comparator<ClinicIndex.Hit> byDistance = Comparator.comparing(ClinicIndex.Hit::distance,
+                Comparator.nullsLast(Comparator.naturalOrder()));
+        if (!normalizedSpecs.isEmpty()) {
+            hits.sort(Comparator.comparingInt((ClinicIndex.Hit hit) -> matchCount(hit.entry(), wanted))
+                    .reversed()
+                    .thenComparing(byDistance));
+        } else {
+            hits.sort(byDistance);
+        }
+        return hits;
     }
 
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int EARTH_RADIUS = 6371; // Earth radius in kilometers
+    /**
+     * Per-city and per-specialization counts for the same filters as
+     * {@link #getFilteredClinics}. Each facet ignores its own filter, so the UI
+     * can show how many clinics selecting another value would yield. Counted in
+     * one pass over the snapshot.
+     */
+    public ClinicFacetsDTO getFacets(String city, List<String> specializations, String search) {
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+        List<String> normalizedSpecs = normalizeSpecs(specializations);
+        String searchLower = search != null && !search.isEmpty() ? search.toLowerCase() : null;
+
+        BitSet inCity = city != null ? snapshot.city(city) : null;
+        BitSet inSpec = !normalizedSpecs.isEmpty() ? snapshot.anySpec(normalizedSpecs) : null;
 
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        // With both filters set, only clinics passing at least one of them can be counted
+        BitSet scan;
+        if (inCity != null && inSpec != null) {
+            scan = (BitSet) inCity.clone();
+            scan.or(inSpec);
+        } else {
+            scan = snapshot.all();
+        }
+
+        long[] cityCounts = new long[snapshot.cityCount()];
+        long[] specCounts = new long[snapshot.specCount()];
+        long total = 0;
+        for (int pos = scan.nextSetBit(0); pos >= 0; pos = scan.nextSetBit(pos + 1)) {
+            if (searchLower != null && !snapshot.textMatches(pos, searchLower, true)) {
+                continue;
+            }
+            boolean cityOk = inCity == null || inCity.get(pos);
+            boolean specOk = inSpec == null || inSpec.get(pos);
+            if (specOk) {
+                int cityOrdinal = snapshot.cityOrdinalAt(pos);
+                if (cityOrdinal >= 0) {
+                    cityCounts[cityOrdinal]++;
+                }
+            }
+            if (cityOk) {
+                BitSet mask = snapshot.get(pos).specMask();
+                for (int bit = mask.nextSetBit(0); bit >= 0; bit = mask.nextSetBit(bit + 1)) {
+                    specCounts[bit]++;
+                }
+            }
+            if (cityOk && specOk) {
+                total++;
+            }
+        }
 
-        return EARTH_RADIUS * c;
+        List<ClinicFacetsDTO.FacetCount> cities = new ArrayList<>();
+        for (int i = 0; i < cityCounts.length; i++) {
+            if (cityCounts[i] > 0) {
+                cities.add(new ClinicFacetsDTO.FacetCount(snapshot.cityName(i), cityCounts[i]));
+            }
+        }
+        List<ClinicFacetsDTO.FacetCount> specs = new ArrayList<>();
+        for (int i = 0; i < specCounts.length; i++) {
+            if (specCounts[i] > 0) {
+                specs.add(new ClinicFacetsDTO.FacetCount(snapshot.specName(i), specCounts[i]));
+            }
+        }
+        Comparator<ClinicFacetsDTO.FacetCount> byCount = Comparator
+                .comparingLong(ClinicFacetsDTO.FacetCount::getCount).reversed()
+                .thenComparing(ClinicFacetsDTO.FacetCount::getValue);
+        cities.sort(byCount);
+        specs.sort(byCount);
+        return new ClinicFacetsDTO(total, cities, specs);
     }
 
-    private int getMatchCount(Clinic clinic, List<String> normalizedSpecs) {
-        if (normalizedSpecs == null || normalizedSpecs.isEmpty())
-            return 0;
+    private List<String> normalizeSpecs(List<String> specializations) {
+        return specializations == null ? List.of()
+                : specializations.stream()
+                        .filter(spec -> spec != null && !spec.isBlank())
+                        .map(String::toLowerCase)
+                        .collect(Collectors.toList());
+    }
 
-        return (int) clinic.getSpecializations().stream()
-                .map(Specialization::getSpecialization)
-                .filter(spec -> spec != null && !spec.isBlank())
-                .map(String::toLowerCase)
-                .filter(normalizedSpecs::contains)
-                .count();
+    private int matchCount(ClinicIndex.Entry entry, BitSet wanted) {
+        BitSet overlap = (BitSet) entry.specMask().clone();
+        overlap.and(wanted);
+        return overlap.cardinality();
     }
 
+    @Transactional
     public ClinicResponseDTO createClinic(ClinicRequestDTO request) {
         boolean alreadyExists = clinicRepository.existsByNameIgnoreCaseAndAddressIgnoreCaseAndCityIgnoreCase(
                 request.getName(), request.getAddress(), request.getCity());
@@ -130,6 +257,7 @@ public class ClinicService {
 
         // Fetch specializations by IDs or names
         List<Specialization> specializations;
+        List<Long> createdSpecIds = new ArrayList<>();
         if (request.getSpecializationIds() != null && !request.getSpecializationIds().isEmpty()) {
             specializations = specializationRepository.findAllById(request.getSpecializationIds());
         } else if (request.getSpecializations() != null && !request.getSpecializations().isEmpty()) {
@@ -138,7 +266,9 @@ public class ClinicService {
                             .orElseGet(() -> {
                                 Specialization newSpec = new Specialization();
                                 newSpec.setSpecialization(name);
-                                return specializationRepository.save(newSpec);
+                                Specialization saved = specializationRepository.save(newSpec);
+                                createdSpecIds.add(saved.getId());
+                                return saved;
                             }))
                     .collect(java.util.stream.Collectors.toList());
         } else {
@@ -147,12 +277,62 @@ public class ClinicService {
         clinic.setSpecializations(specializations);
 
         clinicRepository.save(clinic);
+        clinicListingService.refresh(clinic.getId());
+        catalogChangeLog.record(CatalogChange.EntityType.SPECIALIZATION, CatalogChange.Operation.UPSERT,
+                createdSpecIds);
+        catalogChangeLog.record(CatalogChange.EntityType.CLINIC, CatalogChange.Operation.UPSERT, clinic.getId());
+        catalogVersion.bump(clinic.getId());
         return new ClinicResponseDTO(clinic);
     }
 
+    /** Delete a clinic and its doctors; false if it does not exist. */
+    @Transactional
+    public boolean deleteClinic(Long id) {
+        Clinic clinic = clinicRepository.findById(id).orElse(null);
+        if (clinic == null) {
+            return false;
+        }
+        List<Long> doctorIds = clinic.getDoctors().stream().map(Doctor::getId).collect(Collectors.toList());
+        clinicRepository.delete(clinic);
+        clinicListingService.refresh(id);
+        catalogChangeLog.record(CatalogChange.EntityType.DOCTOR, CatalogChange.Operation.DELETE, doctorIds);
+        catalogChangeLog.record(CatalogChange.EntityType.CLINIC, CatalogChange.Operation.DELETE, id);
+        catalogVersion.bump(id);
+        return true;
+    }
+
     public ClinicResponseDTO getClinicById(Long id) {
         Clinic clinic = clinicRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Clinic not found"));
         return new ClinicResponseDTO(clinic);
     }
+
+    /**
+     * Several clinics in request order, with two queries in total: one for the
+     * clinics and their specializations, one for all of their doctors. Unknown
+     * ids are left out; repeated ids are returned once.
+     */
+    public List<ClinicResponseDTO> getClinicsByIds(List<Long> ids) {
+        LinkedHashSet<Long> wanted = new LinkedHashSet<>(ids);
+        wanted.remove(null);
+        if (wanted.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Clinic> clinics = clinicRepository.findAllWithSpecializationsByIdIn(wanted).stream()
+                .collect(Collectors.toMap(Clinic::getId, Function.identity()));
+        Map<Long, List<Doctor>> doctors = doctorRepository.findByClinicIdIn(clinics.keySet()).stream()
+                .collect(Collectors.groupingBy(doctor -> doctor.getClinic().getId()));
+
+        List<ClinicResponseDTO> result = new ArrayList<>(clinics.size());
+        for (Long id : wanted) {
+            Clinic clinic = clinics.get(id);
+            if (clinic == null) {
+                continue;
+            }
+            ClinicResponseDTO dto = new ClinicResponseDTO(clinic);
+            dto.setDoctors(doctors.getOrDefault(id, List.of()));
+            result.add(dto);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,230 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.hospitalfinder.backend.dto.ChatRequest;
+
+/**
+ * Server-side chat history, so clients send only the new message plus the
+ * conversation id. Each conversation keeps its recent turns verbatim within a
+ * token budget ({@code chat.conversation.max-history-tokens}); older turns are
+ * folded into a short running summary that is sent to the model as context.
+ * Idle conversations expire after {@code ttl-minutes}, and the least recently
+ * used are dropped beyond {@code max-conversations}; clients then have to
+ * resend their history to start over.
+ */
+@Component
+public class ConversationStore {
+
+    // Rough size of one token for English text, as used by the budget
+    private static final int CHARS_PER_TOKEN = 4;
+    // Per-message overhead (role, separators) in tokens
+    private static final int MESSAGE_OVERHEAD = 4;
+    // Longest single message kept, in characters
+    private static final int MAX_MESSAGE_CHARS = 2000;
+    // How much of a folded turn survives in the summary, in characters
+    private static final int SUMMARY_LINE_CHARS = 160;
+
+    private final int maxConversations;
+    private final long ttlMillis;
+    private final int maxHistoryTokens;
+    private final int maxSummaryTokens;
+    private final int minRecentTurns;
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+    private final AtomicLong summarizedTurns = new AtomicLong();
+
+    // Access-ordered, so iteration starts at the least recently used conversation
+    private final LinkedHashMap<String, Conversation> conversations = new LinkedHashMap<>(16, 0.75f, true);
+
+    public ConversationStore(
+            @Value("${chat.conversation.max-conversations:10000}") int maxConversations,
+            @Value("${chat.conversation.ttl-minutes:30}") long ttlMinutes,
+            @Value("${chat.conversation.max-history-tokens:1200}") int maxHistoryTokens,
+            @Value("${chat.conversation.min-recent-turns:4}") int minRecentTurns) {
+        this.maxConversations = maxConversations;
+        this.ttlMillis = ttlMinutes * 60_000;
+        this.maxHistoryTokens = maxHistoryTokens;
+        this.maxSummaryTokens = maxHistoryTokens / 4;
+        this.minRecentTurns = minRecentTurns;
+    }
+
+    /**
+     * The live conversation with this id, or null when the id is missing,
+     * unknown or expired. Callers must not silently continue with a fresh
+     * conversation instead: the client still believes the server holds its
+     * history.
+     */
+    public Conversation find(String id) {
+        if (id == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        synchronized (conversations) {
+            Conversation existing = conversations.get(id);
+            if (existing != null && existing.lastAccess + ttlMillis > now) {
+                existing.lastAccess = now;
+                return existing;
+            }
+            if (existing != null) {
+                conversations.remove(id);
+                expired.incrementAndGet();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A new conversation, seeded with all but the last of {@code messages}, so
+     * clients that send their full history keep their context; the last
+     * message is the turn being answered.
+     */
+    public Conversation create(List<ChatRequest.Message> messages) {
+        long now = System.currentTimeMillis();
+        Conversation conversation = new Conversation(UUID.randomUUID().toString(), now);
+        if (messages != null) {
+            for (int i = 0; i < messages.size() - 1; i++) {
+                ChatRequest.Message message = messages.get(i);
+                if (!"system".equals(message.getRole())) {
+                    conversation.append(message.getRole(), message.getContent());
+                }
+            }
+        }
+        synchronized (conversations) {
+            conversations.put(conversation.id, conversation);
+            Iterator<Conversation> eldest = conversations.values().iterator();
+            while (conversations.size() > maxConversations && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                expired.incrementAndGet();
+            }
+        }
+        created.incrementAndGet();
+        return conversation;
+    }
+
+    @Scheduled(fixedDelayString = "${chat.conversation.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        long cutoff = System.currentTimeMillis() - ttlMillis;
+        synchronized (conversations) {
+            Iterator<Conversation> it = conversations.values().iterator();
+            while (it.hasNext()) {
+                if (it.next().lastAccess <= cutoff) {
+                    it.remove();
+                    expired.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public Map<String, Object> stats() {
+        int size;
+        synchronized (conversations) {
+            size = conversations.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active", size);
+        stats.put("created", created.get());
+        stats.put("expired", expired.get());
+        stats.put("summarizedTurns", summarizedTurns.get());
+        stats.put("maxHistoryTokens", maxHistoryTokens);
+        return stats;
+    }
+
+    static int estimateTokens(String text) {
+        return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN + MESSAGE_OVERHEAD;
+    }
+
+    /** One user's chat; its methods are safe to call from concurrent requests. */
+    public final class Conversation {
+
+        private final String id;
+        private final Deque<Turn> turns = new ArrayDeque<>();
+        private final StringBuilder summary = new StringBuilder();
+        private int turnTokens;
+        private volatile long lastAccess;
+
+        private Conversation(String id, long now) {
+            this.id = id;
+            this.lastAccess = now;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        /**
+         * Model-ready history: the summary of older turns (if any) as a system
+         * message, then the recent turns in order.
+         */
+        public synchronized List<Map<String, String>> history() {
+            List<Map<String, String>> history = new ArrayList<>(turns.size() + 1);
+            if (summary.length() > 0) {
+                history.add(Map.of("role", "system", "content", "Summary of the earlier conversation: " + summary));
+            }
+            for (Turn turn : turns) {
+                history.add(Map.of("role", turn.role, "content", turn.content));
+            }
+            return history;
+        }
+
+        public synchronized void append(String role, String content) {
+            if (content == null || content.isBlank()) {
+                return;
+            }
+            String kept = content.length() > MAX_MESSAGE_CHARS ? content.substring(0, MAX_MESSAGE_CHARS) : content;
+            Turn turn = new Turn("assistant".equals(role) ? "assistant" : "user", kept, estimateTokens(kept));
+            turns.addLast(turn);
+            turnTokens += turn.tokens;
+            lastAccess = System.currentTimeMillis();
+            while (turnTokens > maxHistoryTokens && turns.size() > minRecentTurns) {
+                fold(turns.removeFirst());
+            }
+        }
+
+        // Moves a turn into the summary as one clipped line, dropping the oldest lines past the budget
+        private void fold(Turn turn) {
+            turnTokens -= turn.tokens;
+            summarizedTurns.incrementAndGet();
+            String line = turn.content.replaceAll("\\s+", " ").trim();
+            int sentenceEnd = line.indexOf(". ");
+            if ("assistant".equals(turn.role) && sentenceEnd > 0) {
+                line = line.substring(0, sentenceEnd + 1);
+            }
+            if (line.length() > SUMMARY_LINE_CHARS) {
+                line = line.substring(0, SUMMARY_LINE_CHARS) + "...";
+            }
+            if (summary.length() > 0) {
+                summary.append(' ');
+            }
+            summary.append("assistant".equals(turn.role) ? "Assistant: " : "User: ").append(line);
+            int maxChars = maxSummaryTokens * CHARS_PER_TOKEN;
+            while (summary.length() > maxChars) {
+                int next = summary.indexOf(" User: ", 1);
+                int nextAssistant = summary.indexOf(" Assistant: ", 1);
+                int cut = next < 0 ? nextAssistant : nextAssistant < 0 ? next : Math.min(next, nextAssistant);
+                if (cut < 0) {
+                    summary.setLength(maxChars);
+                    break;
+                }
+                summary.delete(0, cut + 1);
+            }
+        }
+    }
+
+    private record Turn(String role, String content, int tokens) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.hospitalfinder.backend.service;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Which database the app is connected to, for the few statements that only
+ * PostgreSQL understands (advisory locks, transaction ids). Tests run on H2
+ * and take the portable path.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseProduct {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public boolean isPostgres() {
+        Boolean current = postgres;
+        if (current == null) {
+            String name = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            current = "PostgreSQL".equalsIgnoreCase(name);
+            postgres = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,57 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hospitalfinder.backend.entity.CatalogChange;
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/** Doctor writes, each in one transaction with its change-log row. */
+@Service
+@RequiredArgsConstructor
+public class DoctorService {
+
+    private final DoctorRepository doctorRepository;
+    private final ClinicRepository clinicRepository;
+    private final CatalogChangeLog catalogChangeLog;
+    private final CatalogVersion catalogVersion;
+
+    /** Add a doctor to a clinic; empty if the clinic does not exist. */
+    @Transactional
+    public Optional<Doctor> addDoctor(Long clinicId, Doctor doctor) {
+        Optional<Clinic> clinicOpt = clinicRepository.findById(clinicId);
+        if (clinicOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        doctor.setClinic(clinicOpt.get());
+        Doctor savedDoctor = doctorRepository.save(doctor);
+        catalogChangeLog.record(CatalogChange.EntityType.DOCTOR, CatalogChange.Operation.UPSERT, savedDoctor.getId());
+        catalogVersion.bump(clinicId);
+        return Optional.of(savedDoctor);
+    }
+
+    /** Delete a doctor; false if it does not exist. */
+    @Transactional
+    public boolean deleteDoctor(Long doctorId) {
+        Optional<Doctor> doctorOpt = doctorRepository.findById(doctorId);
+        if (doctorOpt.isEmpty()) {
+            return false;
+        }
+        Clinic clinic = doctorOpt.get().getClinic();
+        doctorRepository.delete(doctorOpt.get());
+        catalogChangeLog.record(CatalogChange.EntityType.DOCTOR, CatalogChange.Operation.DELETE, doctorId);
+        if (clinic != null) {
+            catalogVersion.bump(clinic.getId());
+        } else {
+            catalogVersion.bump();
+        }
+        return true;
+    }
+}
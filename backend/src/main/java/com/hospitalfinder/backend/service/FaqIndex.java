@@ -0,0 +1,193 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * BM25 index over the curated platform FAQ in {@code chat/faq.txt}. Every
+ * phrasing of a question is its own document pointing at the shared answer,
+ * so short user questions are compared with short questions. A message is
+ * answered only when the best match is strong ({@code chat.faq.min-score}),
+ * covers most of the message's terms ({@code min-coverage}) and is clearly
+ * ahead of the best other entry ({@code min-margin}).
+ */
+@Slf4j
+@Component
+public class FaqIndex {
+
+    private static final String CORPUS = "chat/faq.txt";
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "i", "me", "my", "you", "your", "we", "it", "is", "are", "am", "be", "do", "does",
+            "can", "could", "will", "would", "should", "to", "for", "of", "on", "in", "at", "with", "and", "or",
+            "this", "that", "there", "what", "how", "where", "which", "who", "why", "when", "please", "hi",
+            "hello", "hey", "any", "some", "about", "from", "up", "so");
+
+    private final List<String> answers = new ArrayList<>();
+    // Per document (question phrasing): owning answer, term frequencies, length
+    private final List<Integer> documentAnswer = new ArrayList<>();
+    private final List<Map<String, Integer>> documentTerms = new ArrayList<>();
+    private final List<Integer> documentLength = new ArrayList<>();
+    private final Map<String, Integer> documentFrequency = new HashMap<>();
+    private final double averageLength;
+
+    private final double minScore;
+    private final double minCoverage;
+    private final double minMargin;
+
+    public FaqIndex(
+            @Value("${chat.faq.min-score:3.0}") double minScore,
+            @Value("${chat.faq.min-coverage:0.6}") double minCoverage,
+            @Value("${chat.faq.min-margin:1.15}") double minMargin) throws IOException {
+        this.minScore = minScore;
+        this.minCoverage = minCoverage;
+        this.minMargin = minMargin;
+
+        List<String> questions = new ArrayList<>();
+        ClassPathResource resource = new ClassPathResource(CORPUS);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("Q:")) {
+                    questions.add(line.substring(2).trim());
+                } else if (line.startsWith("A:")) {
+                    if (questions.isEmpty()) {
+                        throw new IllegalStateException("Answer without a question in " + CORPUS + ": " + line);
+                    }
+                    int answer = answers.size();
+                    answers.add(line.substring(2).trim());
+                    for (String question : questions) {
+                        addDocument(answer, question);
+                    }
+                    questions.clear();
+                }
+            }
+        }
+        long totalLength = documentLength.stream().mapToLong(Integer::longValue).sum();
+        this.averageLength = documentLength.isEmpty() ? 0 : (double) totalLength / documentLength.size();
+        log.info("FAQ index loaded: {} answers, {} question phrasings", answers.size(), documentLength.size());
+    }
+
+    private void addDocument(int answer, String question) {
+        List<String> terms = tokenize(question);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : terms) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        for (String term : frequencies.keySet()) {
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+        documentAnswer.add(answer);
+        documentTerms.add(frequencies);
+        documentLength.add(terms.size());
+    }
+
+    /** The FAQ answer for a message when the match is confident, or null. */
+    public String answer(String message) {
+        Match best = bestMatch(message);
+        return best != null && best.confident ? answers.get(best.answer) : null;
+    }
+
+    /** Best-scoring entry with its score, or null when no term matched. */
+    Match bestMatch(String message) {
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(message));
+        if (queryTerms.isEmpty()) {
+            return null;
+        }
+        int documents = documentLength.size();
+        double[] bestPerAnswer = new double[answers.size()];
+        int[] coveredPerAnswer = new int[answers.size()];
+        for (int d = 0; d < documents; d++) {
+            Map<String, Integer> frequencies = documentTerms.get(d);
+            double score = 0;
+            int covered = 0;
+            for (String term : queryTerms) {
+                Integer tf = frequencies.get(term);
+                if (tf == null) {
+                    continue;
+                }
+                covered++;
+                int df = documentFrequency.get(term);
+                double idf = Math.log(1 + (documents - df + 0.5) / (df + 0.5));
+                double norm = tf + K1 * (1 - B + B * documentLength.get(d) / averageLength);
+                score += idf * tf * (K1 + 1) / norm;
+            }
+            int answer = documentAnswer.get(d);
+            if (score > bestPerAnswer[answer]) {
+                bestPerAnswer[answer] = score;
+                coveredPerAnswer[answer] = covered;
+            }
+        }
+
+        int best = -1;
+        double runnerUp = 0;
+        for (int a = 0; a < bestPerAnswer.length; a++) {
+            if (best < 0 || bestPerAnswer[a] > bestPerAnswer[best]) {
+                if (best >= 0) {
+                    runnerUp = Math.max(runnerUp, bestPerAnswer[best]);
+                }
+                best = a;
+            } else {
+                runnerUp = Math.max(runnerUp, bestPerAnswer[a]);
+            }
+        }
+        if (best < 0 || bestPerAnswer[best] == 0) {
+            return null;
+        }
+        double score = bestPerAnswer[best];
+        double coverage = (double) coveredPerAnswer[best] / queryTerms.size();
+        boolean confident = score >= minScore
+                && coverage >= minCoverage
+                && (runnerUp == 0 || score / runnerUp >= minMargin);
+        return new Match(best, score, coverage, confident);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty() || STOP_WORDS.contains(word)) {
+                continue;
+            }
+            terms.add(stem(word));
+        }
+        return terms;
+    }
+
+    // Light suffix folding so "bookings", "booking" and "book" meet
+    private static String stem(String word) {
+        if (word.length() > 5 && word.endsWith("ing")) {
+            return word.substring(0, word.length() - 3);
+        }
+        if (word.length() > 4 && word.endsWith("ed")) {
+            return word.substring(0, word.length() - 2);
+        }
+        if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+            return word.substring(0, word.length() - 1);
+        }
+        return word;
+    }
+
+    record Match(int answer, double score, double coverage, boolean confident) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.hospitalfinder.backend.service;
+
+/**
+ * Distance and travel-time helpers shared by the catalog services.
+ */
+public final class GeoDistance {
+
+    private static final int EARTH_RADIUS = 6371; // Earth radius in kilometers
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Calculate distance between two points using Haversine formula
+     *
+     * @return Distance in kilometers
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double latDistance = Math.toRadians(lat2 - lat1);
+        double lonDistance = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+        return EARTH_RADIUS * c;
+    }
+
+    /**
+     * Estimate travel time with variable speed based on distance:
+     * - Short distances (< 5km): 20 km/h average (more stops, slower roads)
+     * - Medium distances (5-20km): 30 km/h average
+     * - Longer distances (> 20km): 40 km/h average (highways, fewer stops)
+     *
+     * @return Travel time in minutes
+     */
+    public static int estimateTravelMinutes(double distanceKm) {
+        double speed;
+        if (distanceKm < 5)
+            speed = 20.0;
+        else if (distanceKm < 20)
+            speed = 30.0;
+        else
+            speed = 40.0;
+        return (int) Math.round(distanceKm / speed * 60);
+    }
+}
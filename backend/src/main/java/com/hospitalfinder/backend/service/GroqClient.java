@@ -0,0 +1,383 @@
+package com.hospitalfinder.backend.service;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospitalfinder.backend.exception.LlmException;
+import com.hospitalfinder.backend.exception.LlmUnavailableException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link LlmProvider} for Groq chat completions, the default provider.
+ * Non-blocking. One shared JDK
+ * {@link HttpClient} keeps keep-alive (HTTP/2 when offered) connections to
+ * the API; every call has a connect deadline and an end-to-end deadline. A
+ * semaphore caps calls in flight, so a chat spike fails fast with 503 instead
+ * of piling up, and results are completed on the bounded {@code llmExecutor}.
+ * Identical completions already in flight share one upstream call, and a
+ * {@link CircuitBreaker} stops calling Groq while it keeps failing
+ * ({@link LlmUnavailableException}), probing again after {@code groq.breaker.open-ms}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.llm.provider", havingValue = "groq", matchIfMissing = true)
+public class GroqClient implements LlmProvider {
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor llmExecutor;
+    private final ExecutorService ioExecutor;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final URI url;
+    private final String apiKey;
+    private final String model;
+    private final Duration timeout;
+    private final CircuitBreaker breaker;
+
+    // Serialized request body -> the call answering it
+    private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public GroqClient(ObjectMapper objectMapper,
+            @Qualifier("llmExecutor") ThreadPoolTaskExecutor llmExecutor,
+            @Value("${groq.api.key:}") String apiKey,
+            @Value("${groq.api.url:https://api.groq.com/openai/v1/chat/completions}") String url,
+            @Value("${groq.api.model:llama-3.1-8b-instant}") String model,
+            @Value("${groq.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${groq.client.timeout-ms:15000}") long timeoutMs,
+            @Value("${groq.client.max-concurrent:16}") int maxConcurrent,
+            @Value("${groq.breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${groq.breaker.open-ms:30000}") long openMs,
+            @Value("${groq.breaker.half-open-probes:1}") int halfOpenProbes) {
+        this.objectMapper = objectMapper;
+        this.llmExecutor = llmExecutor;
+        this.apiKey = apiKey;
+        this.url = URI.create(url);
+        this.model = model;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.permits = new Semaphore(maxConcurrent);
+        this.breaker = new CircuitBreaker("groq", failureThreshold, openMs, halfOpenProbes);
+        // Selector and body callbacks only; small and separate from request handling
+        AtomicInteger threads = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "groq-io-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(ioExecutor)
+                .build();
+    }
+
+    @PostConstruct
+    void checkApiKey() {
+        if (!isConfigured()) {
+            log.error("CRITICAL: Groq API Key is NOT loaded!");
+        } else {
+            log.info("Groq API Key loaded successfully. Length: {}", apiKey.length());
+        }
+    }
+
+    @Override
+    public String name() {
+        return "groq";
+    }
+
+    /** Whether an API key is set; without one every call would fail with 401. */
+    @Override
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /** Whether calls are currently being refused by the circuit breaker. */
+    @Override
+    public boolean isCircuitOpen() {
+        return breaker.isOpen();
+    }
+
+    /**
+     * Send a chat completion and return the first choice's content (null when
+     * the API returned no choices). Fails with {@link LlmException}. A call
+     * identical to one still in flight waits for that one's result instead of
+     * going upstream again.
+     */
+    @Override
+    public CompletableFuture<String> complete(List<?> messages, double temperature, int maxTokens) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requestBody(messages, temperature, maxTokens, false));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new LlmException(500, "Failed to send AI request: " + e.getMessage(), e));
+        }
+        String key = new String(body, StandardCharsets.UTF_8);
+        CompletableFuture<String> call = inFlight.get(key);
+        if (call != null) {
+            coalesced.incrementAndGet();
+        } else {
+            CompletableFuture<String> started = new CompletableFuture<>();
+            call = inFlight.putIfAbsent(key, started);
+            if (call != null) {
+                coalesced.incrementAndGet();
+            } else {
+                call = started;
+                exchange(body, HttpResponse.BodyHandlers.ofString(), this::extractReply)
+                        .whenComplete((reply, error) -> {
+                            inFlight.remove(key, started);
+                            if (error != null) {
+                                started.completeExceptionally(error);
+                            } else {
+                                started.complete(reply);
+                            }
+                        });
+            }
+        }
+        // Callers get their own stage, so one of them cancelling can't fail the others
+        return call.copy();
+    }
+
+    /**
+     * Streamed completion: {@code onToken} gets each content delta as Groq
+     * emits it (on the client's I/O thread, in order), and the returned future
+     * the full reply. Same deadline, bulkhead and breaker as {@link #complete};
+     * streams are not coalesced, as each one feeds its own listener.
+     */
+    @Override
+    public CompletableFuture<String> stream(List<?> messages, double temperature, int maxTokens,
+            Consumer<String> onToken) {
+        // Error responses are plain JSON, not an event stream; keep them whole for the message
+        HttpResponse.BodyHandler<String> handler = info -> info.statusCode() / 100 == 2
+                ? HttpResponse.BodySubscribers.fromLineSubscriber(new DeltaSubscriber(onToken), DeltaSubscriber::reply,
+                        StandardCharsets.UTF_8, null)
+                : HttpResponse.BodySubscribers.ofString(StandardCharsets.UTF_8);
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(requestBody(messages, temperature, maxTokens, true));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new LlmException(500, "Failed to send AI request: " + e.getMessage(), e));
+        }
+        return exchange(body, handler, response -> {
+            checkStatus(response);
+            return response.body();
+        });
+    }
+
+    private Map<String, Object> requestBody(List<?> messages, double temperature, int maxTokens, boolean stream) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("model", model);
+        body.put("messages", messages);
+        body.put("temperature", temperature);
+        body.put("max_tokens", maxTokens);
+        if (stream) {
+            body.put("stream", true);
+        }
+        return body;
+    }
+
+    private <T> CompletableFuture<String> exchange(byte[] body, HttpResponse.BodyHandler<T> handler,
+            Function<HttpResponse<T>, String> reader) {
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new LlmException(503, "AI service is busy, please retry shortly"));
+        }
+        CircuitBreaker.Permit permit = breaker.tryAcquire();
+        if (permit == null) {
+            permits.release();
+            return CompletableFuture.failedFuture(
+                    new LlmUnavailableException("AI service is temporarily unavailable"));
+        }
+        CompletableFuture<HttpResponse<T>> exchange;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(url)
+                    .timeout(timeout)
+                    .header("Authorization", "Bearer " + apiKey)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                    .build();
+            exchange = httpClient.sendAsync(request, handler);
+        } catch (Exception e) {
+            permits.release();
+            // Never sent, so it says nothing about Groq's health
+            breaker.onAbandoned(permit);
+            return CompletableFuture.failedFuture(new LlmException(500, "Failed to send AI request: " + e.getMessage(), e));
+        }
+        // The permit is held until the exchange itself ends; a deadline cancels (aborts) it
+        exchange.whenComplete((response, error) -> permits.release());
+
+        return exchange.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .thenApplyAsync(reader, llmExecutor)
+                .handle((reply, error) -> {
+                    if (error == null) {
+                        breaker.onSuccess(permit);
+                        return reply;
+                    }
+                    exchange.cancel(true);
+                    LlmException failure = toLlmException(error);
+                    if (failure.getCause() instanceof RejectedExecutionException) {
+                        // Groq answered but nobody read the reply (it may have been a 5xx or 429)
+                        breaker.onAbandoned(permit);
+                    } else if (isUpstreamFailure(failure)) {
+                        breaker.onFailure(permit);
+                    } else {
+                        breaker.onSuccess(permit);
+                    }
+                    throw failure;
+                });
+    }
+
+    // Outages, overload and deadlines; client errors (bad key, bad request) mean Groq is up
+    private static boolean isUpstreamFailure(LlmException failure) {
+        return failure.getStatus() >= 500 || failure.getStatus() == 429;
+    }
+
+    /** Breaker state plus how many completions were coalesced onto an in-flight call. */
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("provider", name());
+        stats.put("breaker", breaker.stats());
+        stats.put("inFlight", inFlight.size());
+        stats.put("coalesced", coalesced.get());
+        stats.put("availablePermits", permits.availablePermits());
+        return stats;
+    }
+
+    private void checkStatus(HttpResponse<?> response) {
+        if (response.statusCode() / 100 != 2) {
+            log.warn("Groq API error {}: {}", response.statusCode(), response.body());
+            throw new LlmException(response.statusCode(), "Groq API Error: " + response.body());
+        }
+    }
+
+    private String extractReply(HttpResponse<String> response) {
+        checkStatus(response);
+        try {
+            JsonNode choices = objectMapper.readTree(response.body()).path("choices");
+            if (!choices.isArray() || choices.isEmpty()) {
+                return null;
+            }
+            JsonNode content = choices.get(0).path("message").path("content");
+            return content.isMissingNode() || content.isNull() ? null : content.asText();
+        } catch (Exception e) {
+            throw new LlmException(502, "Unreadable AI response: " + e.getMessage(), e);
+        }
+    }
+
+    private static LlmException toLlmException(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof LlmException llmException) {
+            return llmException;
+        }
+        if (cause instanceof TimeoutException || cause instanceof HttpTimeoutException) {
+            return new LlmException(504, "AI service timed out", cause);
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return new LlmException(503, "AI service is busy, please retry shortly", cause);
+        }
+        String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+        return new LlmException(502, "AI service unreachable: " + reason, cause);
+    }
+
+    /**
+     * Reads the {@code data:} lines of an OpenAI-style event stream and
+     * forwards each {@code choices[0].delta.content} piece.
+     */
+    private final class DeltaSubscriber implements Flow.Subscriber<String> {
+
+        private final Consumer<String> onToken;
+        private final StringBuilder reply = new StringBuilder();
+        private boolean listening = true;
+
+        DeltaSubscriber(Consumer<String> onToken) {
+            this.onToken = onToken;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String line) {
+            if (!line.startsWith("data:")) {
+                return;
+            }
+            String data = line.substring(5).trim();
+            if (data.isEmpty() || data.equals("[DONE]")) {
+                return;
+            }
+            JsonNode content;
+            try {
+                content = objectMapper.readTree(data).path("choices").path(0).path("delta").path("content");
+            } catch (Exception e) {
+                log.debug("Skipping unreadable Groq stream chunk: {}", data);
+                return;
+            }
+            if (!content.isTextual() || content.asText().isEmpty()) {
+                return;
+            }
+            reply.append(content.asText());
+            if (listening) {
+                try {
+                    onToken.accept(content.asText());
+                } catch (RuntimeException e) {
+                    // Listener is gone (client disconnected); still read to the end for the full reply
+                    log.debug("Token listener failed, no longer forwarding: {}", e.getMessage());
+                    listening = false;
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        String reply() {
+            return reply.length() == 0 ? null : reply.toString();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdownNow();
+    }
+}
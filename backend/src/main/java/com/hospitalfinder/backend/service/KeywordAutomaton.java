@@ -0,0 +1,131 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Aho-Corasick automaton over a fixed keyword set. One pass over the text finds
+ * every keyword occurrence, whatever the number of keywords. Matches count only
+ * on word boundaries ("ear" matches "ear" and "ears", not "near" or "year"), and
+ * keywords may be phrases ("sir dard"). Matching is case-insensitive.
+ * Instances are immutable and safe to share.
+ */
+public final class KeywordAutomaton {
+
+    private final String[] keywords;
+    // Per state: outgoing edges, failure link, keywords ending here (incl. via dictionary suffixes)
+    private final List<Map<Character, Integer>> edges = new ArrayList<>();
+    private final int[] fail;
+    private final int[][] output;
+
+    private KeywordAutomaton(List<String> keywords) {
+        this.keywords = keywords.toArray(String[]::new);
+        List<List<Integer>> outputs = new ArrayList<>();
+        edges.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        for (int k = 0; k < this.keywords.length; k++) {
+            int state = 0;
+            for (char c : this.keywords[k].toCharArray()) {
+                Integer next = edges.get(state).get(c);
+                if (next == null) {
+                    next = edges.size();
+                    edges.add(new HashMap<>());
+                    outputs.add(new ArrayList<>());
+                    edges.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(k);
+        }
+
+        // Breadth-first, so a state's failure target is final before its children need it
+        this.fail = new int[edges.size()];
+        Queue<Integer> queue = new ArrayDeque<>(edges.get(0).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : edges.get(state).entrySet()) {
+                int child = edge.getValue();
+                int f = fail[state];
+                while (f != 0 && !edges.get(f).containsKey(edge.getKey())) {
+                    f = fail[f];
+                }
+                Integer target = edges.get(f).get(edge.getKey());
+                fail[child] = target != null && target != child ? target : 0;
+                outputs.get(child).addAll(outputs.get(fail[child]));
+                queue.add(child);
+            }
+        }
+        this.output = new int[outputs.size()][];
+        for (int s = 0; s < outputs.size(); s++) {
+            output[s] = outputs.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    public static KeywordAutomaton of(Collection<String> keywords) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            String k = keyword.trim().toLowerCase(Locale.ROOT);
+            if (!k.isEmpty()) {
+                normalized.add(k);
+            }
+        }
+        return new KeywordAutomaton(new ArrayList<>(normalized));
+    }
+
+    /** Distinct keywords found in the text, in order of first appearance. */
+    public List<String> findAll(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        scan(text, found);
+        return new ArrayList<>(found);
+    }
+
+    private void scan(String text, Set<String> found) {
+        if (text == null || text.isEmpty() || keywords.length == 0) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int state = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            Integer next;
+            while ((next = edges.get(state).get(c)) == null && state != 0) {
+                state = fail[state];
+            }
+            state = next != null ? next : 0;
+            for (int k : output[state]) {
+                int start = i - keywords[k].length() + 1;
+                if (isWordStart(lower, start) && isWordEnd(lower, i + 1)) {
+                    found.add(keywords[k]);
+                }
+            }
+        }
+    }
+
+    private static boolean isWordStart(String text, int start) {
+        return start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1));
+    }
+
+    // Plural endings still count as the keyword: "headaches", "ears"
+    private static boolean isWordEnd(String text, int end) {
+        if (boundaryAt(text, end)) {
+            return true;
+        }
+        if (text.charAt(end) == 's') {
+            return boundaryAt(text, end + 1)
+                    || (text.startsWith("es", end) && boundaryAt(text, end + 2));
+        }
+        return false;
+    }
+
+    private static boolean boundaryAt(String text, int index) {
+        return index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+}
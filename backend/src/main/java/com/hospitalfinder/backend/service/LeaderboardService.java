@@ -0,0 +1,164 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hospitalfinder.backend.dto.LeaderboardDTO;
+import com.hospitalfinder.backend.repository.ReviewRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Materialized "top clinics" lists per (city, specialization). All boards are
+ * built in one pass over the {@link ClinicIndex} and swapped in atomically;
+ * reads are map lookups. Boards are rebuilt after catalog or review changes
+ * and on a fixed schedule, and every build gets a new version for ETags.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeaderboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    private static final Comparator<LeaderboardDTO.Entry> BEST_FIRST = Comparator
+            .comparing(LeaderboardDTO.Entry::getRating, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(LeaderboardDTO.Entry::getReviews, Comparator.reverseOrder())
+            .thenComparing(LeaderboardDTO.Entry::getClinicId);
+
+    private final ClinicIndex clinicIndex;
+    private final ReviewRepository reviewRepository;
+
+    @Value("${leaderboard.size:20}")
+    private int boardSize;
+    @Value("${leaderboard.refresh-ms:600000}")
+    private long refreshMs;
+
+    // Seeded from the clock so ETags handed out by a previous process never match
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis());
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private volatile Boards boards;
+
+    public LeaderboardDTO getLeaderboard(String city, String specialization, int limit) {
+        Boards current = boards();
+        List<LeaderboardDTO.Entry> board = current.byKey.getOrDefault(key(city, specialization), List.of());
+        int n = Math.max(0, Math.min(limit, board.size()));
+        return new LeaderboardDTO(city, specialization, current.version, board.subList(0, n));
+    }
+
+    /** Version of the boards currently served. */
+    public long version() {
+        return boards().version;
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        stale.set(true);
+    }
+
+    @EventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        stale.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${leaderboard.check-ms:2000}")
+    public void refreshIfStale() {
+        Boards current = boards;
+        boolean expired = current != null && System.currentTimeMillis() - current.builtAt >= refreshMs;
+        if (stale.get() || expired) {
+            rebuild();
+        }
+    }
+
+    private Boards boards() {
+        Boards current = boards;
+        return current != null ? current : rebuild();
+    }
+
+    private synchronized Boards rebuild() {
+        // Clear first so a change arriving mid-build marks the result stale again
+        stale.set(false);
+        long started = System.currentTimeMillis();
+        ClinicIndex.Snapshot snapshot = clinicIndex.snapshot();
+
+        Map<Long, long[]> userReviews = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRatingsByHospital()) {
+            userReviews.put((Long) row[0], new long[] { ((Number) row[1]).longValue(), ((Number) row[2]).longValue() });
+        }
+
+        // One bucket per (city ordinal, spec ordinal)
+        Map<Long, List<LeaderboardDTO.Entry>> buckets = new HashMap<>();
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            int cityOrdinal = snapshot.cityOrdinalAt(pos);
+            if (cityOrdinal < 0) {
+                continue;
+            }
+            ClinicIndex.Entry entry = snapshot.get(pos);
+            LeaderboardDTO.Entry ranked = toEntry(entry, userReviews.get(entry.id()));
+            for (int spec = entry.specMask().nextSetBit(0); spec >= 0; spec = entry.specMask().nextSetBit(spec + 1)) {
+                buckets.computeIfAbsent(((long) cityOrdinal << 32) | spec, k -> new ArrayList<>()).add(ranked);
+            }
+        }
+
+        Map<String, List<LeaderboardDTO.Entry>> byKey = new HashMap<>(buckets.size() * 2);
+        for (Map.Entry<Long, List<LeaderboardDTO.Entry>> bucket : buckets.entrySet()) {
+            List<LeaderboardDTO.Entry> entries = bucket.getValue();
+            entries.sort(BEST_FIRST);
+            List<LeaderboardDTO.Entry> board = new ArrayList<>(Math.min(boardSize, entries.size()));
+            for (int i = 0; i < entries.size() && i < boardSize; i++) {
+                LeaderboardDTO.Entry e = entries.get(i);
+                board.add(new LeaderboardDTO.Entry(i + 1, e.getClinicId(), e.getName(), e.getAddress(),
+                        e.getImageUrl(), e.getRating(), e.getReviews()));
+            }
+            String city = snapshot.cityName((int) (bucket.getKey() >>> 32));
+            String spec = snapshot.specName((int) (bucket.getKey() & 0xffffffffL));
+            byKey.put(key(city, spec), List.copyOf(board));
+        }
+
+        Boards built = new Boards(versions.incrementAndGet(), System.currentTimeMillis(), byKey);
+        boards = built;
+        logger.info("Leaderboards rebuilt: {} boards from {} clinics in {} ms", byKey.size(), snapshot.size(),
+                System.currentTimeMillis() - started);
+        return built;
+    }
+
+    /** Listed rating and count blended with the app's own user reviews, as one weighted average. */
+    private static LeaderboardDTO.Entry toEntry(ClinicIndex.Entry entry, long[] userReviews) {
+        long listedCount = entry.reviews() != null ? Math.max(0, entry.reviews()) : 0;
+        long userCount = userReviews != null ? userReviews[0] : 0;
+        double weighted = 0;
+        long weight = 0;
+        if (entry.rating() != null) {
+            // A listed rating without a count still counts as one vote
+            long votes = Math.max(1, listedCount);
+            weighted += entry.rating() * votes;
+            weight += votes;
+        }
+        if (userCount > 0) {
+            weighted += userReviews[1];
+            weight += userCount;
+        }
+        Double rating = weight > 0 ? Math.round(weighted / weight * 100.0) / 100.0 : null;
+        return new LeaderboardDTO.Entry(0, entry.id(), entry.name(), entry.address(), entry.imageUrl(), rating,
+                listedCount + userCount);
+    }
+
+    private static String key(String city, String specialization) {
+        return (city == null ? "" : city.trim().toLowerCase()) + "|"
+                + (specialization == null ? "" : specialization.trim().toLowerCase());
+    }
+
+    private record Boards(long version, long builtAt, Map<String, List<LeaderboardDTO.Entry>> byKey) {
+    }
+}
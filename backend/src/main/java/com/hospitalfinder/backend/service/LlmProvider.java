@@ -0,0 +1,34 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Chat completion backend used by the chat pipeline. {@code chat.llm.provider}
+ * selects the implementation: {@code groq} ({@link GroqClient}, the default)
+ * or {@code stub} ({@link StubLlmProvider}, in-process and offline, for load
+ * tests). Messages are OpenAI-style {@code role}/{@code content} objects.
+ * Failures complete the futures with
+ * {@link com.hospitalfinder.backend.exception.LlmException}.
+ */
+public interface LlmProvider {
+
+    /** Short name reported in stats, e.g. "groq". */
+    String name();
+
+    /** Whether the provider can be called at all (e.g. has credentials). */
+    boolean isConfigured();
+
+    /** Whether calls are currently refused without being attempted. */
+    boolean isCircuitOpen();
+
+    /** The full reply, or null when the model returned nothing. */
+    CompletableFuture<String> complete(List<?> messages, double temperature, int maxTokens);
+
+    /** Like {@link #complete}, also passing each piece of the reply to {@code onToken} as it is produced. */
+    CompletableFuture<String> stream(List<?> messages, double temperature, int maxTokens, Consumer<String> onToken);
+
+    Map<String, Object> stats();
+}
@@ -0,0 +1,5 @@
+package com.hospitalfinder.backend.service;
+
+/** Published when a review is added or removed; {@code hospitalId} may be null if unknown. */
+public record ReviewChangedEvent(Long hospitalId) {
+}
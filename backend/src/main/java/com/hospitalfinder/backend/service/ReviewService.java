@@ -3,6 +3,7 @@ package com.hospitalfinder.backend.service;
 import com.hospitalfinder.backend.entity.Review;
 import com.hospitalfinder.backend.repository.ReviewRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -14,6 +15,9 @@ public class ReviewService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     public Review saveReview(Review review) {
         Review existingReview = reviewRepository.findByUserIdAndDoctorId(review.getUserId(), review.getDoctorId());
         if (existingReview != null) {
@@ -21,7 +25,9 @@ public class ReviewService {
                     "You have already reviewed this doctor. Please delete your old review to submit a new one.");
         }
         review.setCreatedAt(LocalDateTime.now());
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewChangedEvent(saved.getHospitalId()));
+        return saved;
     }
 
     public List<Review> getReviewsByHospital(Long hospitalId) {
@@ -37,6 +43,8 @@ public class ReviewService {
     }
 
     public void deleteReview(Long id) {
+        Long hospitalId = reviewRepository.findById(id).map(Review::getHospitalId).orElse(null);
         reviewRepository.deleteById(id);
+        eventPublisher.publishEvent(new ReviewChangedEvent(hospitalId));
     }
 }
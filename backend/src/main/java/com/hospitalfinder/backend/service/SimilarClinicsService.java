@@ -0,0 +1,207 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Precomputed "similar clinics" per clinic: the top N by specialization
+ * overlap (Jaccard over the spec bitmasks) blended with proximity. Lists are
+ * built once in the background and afterwards repaired only for clinics named
+ * in {@link CatalogChangedEvent}s: changed clinics get a fresh list, and every
+ * other list is patched against just the changed clinics, so a write costs
+ * O(changed x clinics) instead of recomputing all pairs.
+ */
+@Service
+@RequiredArgsConstructor
+public class SimilarClinicsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarClinicsService.class);
+
+    // Worst candidate at the head of the heap so it can be evicted in O(log n)
+    private static final Comparator<SimilarClinic> WORST_FIRST = Comparator
+            .comparingDouble(SimilarClinic::score)
+            .thenComparing(SimilarClinic::clinicId, Comparator.reverseOrder());
+
+    private final ClinicIndex clinicIndex;
+
+    @Value("${similar.top-n:5}")
+    private int topN;
+    @Value("${similar.weights.specialization:0.7}")
+    private double specializationWeight;
+    @Value("${similar.weights.proximity:0.3}")
+    private double proximityWeight;
+    // Distance at which the proximity score drops to one half
+    @Value("${similar.distance-scale-km:5.0}")
+    private double distanceScaleKm;
+    // Located clinics further apart than this are never alternatives
+    @Value("${similar.max-distance-km:50.0}")
+    private double maxDistanceKm;
+
+    private final Map<Long, List<SimilarClinic>> similar = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean fullRebuild = new AtomicBoolean(true);
+
+    /** Precomputed alternatives for a clinic, best first; empty until the first run completed. */
+    public List<SimilarClinic> getSimilar(Long clinicId) {
+        return similar.getOrDefault(clinicId, List.of());
+    }
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.affectsAll()) {
+            fullRebuild.set(true);
+        } else {
+            dirty.addAll(event.clinicIds());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${similar.refresh-ms:5000}")
+    public void refresh() {
+        if (fullRebuild.getAndSet(false)) {
+            dirty.clear();
+            rebuildAll(clinicIndex.snapshot());
+            return;
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+        Set<Long> changed = new HashSet<>(dirty);
+        dirty.removeAll(changed);
+        repair(clinicIndex.snapshot(), changed);
+    }
+
+    private void rebuildAll(ClinicIndex.Snapshot snapshot) {
+        long started = System.currentTimeMillis();
+        Set<Long> live = new HashSet<>();
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            live.add(snapshot.get(pos).id());
+            similar.put(snapshot.get(pos).id(), topFor(snapshot, pos));
+        }
+        similar.keySet().retainAll(live);
+        logger.info("Similar clinics computed for {} clinics in {} ms", snapshot.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    private void repair(ClinicIndex.Snapshot snapshot, Set<Long> changed) {
+        // Changed clinics that still exist, by position; deleted ones only need removing
+        List<Integer> changedPositions = new ArrayList<>();
+        for (Long id : changed) {
+            ClinicIndex.Entry entry = snapshot.byId(id);
+            if (entry == null) {
+                similar.remove(id);
+            } else {
+                changedPositions.add(snapshot.position(id));
+            }
+        }
+        for (int pos : changedPositions) {
+            similar.put(snapshot.get(pos).id(), topFor(snapshot, pos));
+        }
+
+        for (int pos = 0; pos < snapshot.size(); pos++) {
+            Long id = snapshot.get(pos).id();
+            if (changed.contains(id)) {
+                continue;
+            }
+            List<SimilarClinic> current = similar.getOrDefault(id, List.of());
+            if (current.stream().anyMatch(s -> changed.contains(s.clinicId()))) {
+                // A listed clinic changed or disappeared; its replacement could be anywhere
+                similar.put(id, topFor(snapshot, pos));
+                continue;
+            }
+            List<SimilarClinic> patched = null;
+            for (int other : changedPositions) {
+                SimilarClinic candidate = score(snapshot, pos, other);
+                if (candidate == null) {
+                    continue;
+                }
+                List<SimilarClinic> base = patched != null ? patched : current;
+                if (base.size() < topN || WORST_FIRST.compare(candidate, base.get(base.size() - 1)) > 0) {
+                    patched = new ArrayList<>(base);
+                    patched.add(candidate);
+                    patched.sort(WORST_FIRST.reversed());
+                    if (patched.size() > topN) {
+                        patched.remove(patched.size() - 1);
+                    }
+                }
+            }
+            if (patched != null) {
+                similar.put(id, List.copyOf(patched));
+            }
+        }
+        logger.debug("Similar clinics repaired for {} changed clinics", changed.size());
+    }
+
+    /** Top N alternatives for the clinic at {@code pos}, scanning only clinics sharing a specialization. */
+    private List<SimilarClinic> topFor(ClinicIndex.Snapshot snapshot, int pos) {
+        ClinicIndex.Entry entry = snapshot.get(pos);
+        BitSet candidates = snapshot.anySpecOrdinals(entry.specMask());
+        candidates.clear(pos);
+        PriorityQueue<SimilarClinic> heap = new PriorityQueue<>(topN + 1, WORST_FIRST);
+        for (int other = candidates.nextSetBit(0); other >= 0; other = candidates.nextSetBit(other + 1)) {
+            SimilarClinic candidate = score(snapshot, pos, other);
+            if (candidate == null) {
+                continue;
+            }
+            if (heap.size() < topN) {
+                heap.add(candidate);
+            } else if (WORST_FIRST.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<SimilarClinic> result = new ArrayList<>(heap);
+        result.sort(WORST_FIRST.reversed());
+        return List.copyOf(result);
+    }
+
+    /** How good {@code other} is as an alternative to {@code pos}, or null if it is not one. */
+    private SimilarClinic score(ClinicIndex.Snapshot snapshot, int pos, int other) {
+        if (pos == other) {
+            return null;
+        }
+        ClinicIndex.Entry a = snapshot.get(pos);
+        ClinicIndex.Entry b = snapshot.get(other);
+        BitSet intersection = (BitSet) a.specMask().clone();
+        intersection.and(b.specMask());
+        int shared = intersection.cardinality();
+        if (shared == 0) {
+            return null;
+        }
+        double jaccard = (double) shared / (a.specMask().cardinality() + b.specMask().cardinality() - shared);
+
+        Double distance = null;
+        double proximity = 0;
+        if (a.hasLocation() && b.hasLocation()) {
+            distance = GeoDistance.haversineKm(a.latitude(), a.longitude(), b.latitude(), b.longitude());
+            if (distance > maxDistanceKm) {
+                return null;
+            }
+            proximity = 1.0 / (1.0 + distance / distanceScaleKm);
+        } else if (snapshot.cityOrdinalAt(pos) < 0 || snapshot.cityOrdinalAt(pos) != snapshot.cityOrdinalAt(other)) {
+            // Without coordinates only clinics in the same city count as nearby
+            return null;
+        }
+        double score = specializationWeight * jaccard + proximityWeight * proximity;
+        return new SimilarClinic(b.id(), score, jaccard, distance);
+    }
+
+    public record SimilarClinic(Long clinicId, double score, double specializationOverlap, Double distanceKm) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hospitalfinder.backend.exception.LlmException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process {@link LlmProvider} for benchmarks and load tests on machines
+ * without network access ({@code chat.llm.provider=stub}). Replies arrive
+ * after {@code chat.llm.stub.latency-ms} plus up to {@code jitter-ms} without
+ * holding a thread while "generating"; streams send one word every
+ * {@code token-delay-ms}. Symptom-analysis prompts get the
+ * {@link SymptomClassifier}'s answer as {@code specialization_match} JSON,
+ * everything else the canned {@code reply}. {@code failure-rate} makes that
+ * share of calls fail with 502 to exercise the degraded paths.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "chat.llm.provider", havingValue = "stub")
+public class StubLlmProvider implements LlmProvider {
+
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+    private final SymptomClassifier symptomClassifier;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final long tokenDelayMs;
+    private final double failureRate;
+    private final String reply;
+
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public StubLlmProvider(ObjectMapper objectMapper,
+            SymptomClassifier symptomClassifier,
+            @Value("${chat.llm.stub.threads:4}") int threads,
+            @Value("${chat.llm.stub.latency-ms:400}") long latencyMs,
+            @Value("${chat.llm.stub.jitter-ms:200}") long jitterMs,
+            @Value("${chat.llm.stub.token-delay-ms:30}") long tokenDelayMs,
+            @Value("${chat.llm.stub.failure-rate:0}") double failureRate,
+            @Value("${chat.llm.stub.reply:This is a canned reply from the stub LLM provider. Please consult a doctor for medical advice.}") String reply) {
+        this.objectMapper = objectMapper;
+        AtomicInteger count = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "llm-stub-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.symptomClassifier = symptomClassifier;
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.tokenDelayMs = tokenDelayMs;
+        this.failureRate = failureRate;
+        this.reply = reply;
+        log.warn("Chat is using the stub LLM provider ({} ms + up to {} ms jitter)", latencyMs, jitterMs);
+    }
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return true;
+    }
+
+    @Override
+    public boolean isCircuitOpen() {
+        return false;
+    }
+
+    @Override
+    public CompletableFuture<String> complete(List<?> messages, double temperature, int maxTokens) {
+        calls.incrementAndGet();
+        CompletableFuture<String> result = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            try {
+                result.complete(answer(messages));
+            } catch (LlmException e) {
+                result.completeExceptionally(e);
+            }
+        }, firstByteDelay(), TimeUnit.MILLISECONDS);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<String> stream(List<?> messages, double temperature, int maxTokens,
+            Consumer<String> onToken) {
+        calls.incrementAndGet();
+        CompletableFuture<String> done = new CompletableFuture<>();
+        scheduler.schedule(() -> {
+            try {
+                String full = answer(messages);
+                emit(full.split("(?<= )"), 0, onToken, full, done);
+            } catch (LlmException e) {
+                done.completeExceptionally(e);
+            }
+        }, firstByteDelay(), TimeUnit.MILLISECONDS);
+        return done;
+    }
+
+    // One piece per tick, scheduled, so no thread sleeps between tokens
+    private void emit(String[] pieces, int index, Consumer<String> onToken, String full,
+            CompletableFuture<String> done) {
+        if (index == pieces.length) {
+            done.complete(full);
+            return;
+        }
+        try {
+            onToken.accept(pieces[index]);
+        } catch (RuntimeException e) {
+            // Listener is gone; still finish so the caller gets the full reply
+            log.debug("Token listener failed: {}", e.getMessage());
+        }
+        scheduler.schedule(() -> emit(pieces, index + 1, onToken, full, done), tokenDelayMs, TimeUnit.MILLISECONDS);
+    }
+
+    private String answer(List<?> messages) {
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            failures.incrementAndGet();
+            throw new LlmException(502, "Stub LLM failure");
+        }
+        JsonNode tree = objectMapper.valueToTree(messages);
+        String system = tree.path(0).path("content").asText("");
+        if (!system.contains("specialization_match")) {
+            return reply;
+        }
+        String lastUser = tree.path(tree.size() - 1).path("content").asText("");
+        Map<String, Object> analysis = new LinkedHashMap<>(symptomClassifier.classify(lastUser).toAnalysis());
+        // Shaped like the model's answer, not the on-box classifier's
+        analysis.remove("source");
+        try {
+            return objectMapper.writeValueAsString(analysis);
+        } catch (Exception e) {
+            throw new LlmException(500, "Stub LLM could not build a reply: " + e.getMessage(), e);
+        }
+    }
+
+    private long firstByteDelay() {
+        return latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs + 1) : 0);
+    }
+
+    @Override
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("provider", name());
+        stats.put("calls", calls.get());
+        stats.put("failures", failures.get());
+        stats.put("latencyMs", latencyMs);
+        stats.put("jitterMs", jitterMs);
+        stats.put("tokenDelayMs", tokenDelayMs);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,138 @@
+package com.hospitalfinder.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * On-box symptom to specialization classifier. Weighted terms per
+ * specialization come from the bundled {@code chat/symptom-specializations.tsv}
+ * and are matched with a {@link KeywordAutomaton}; a message scores the sum of
+ * its distinct terms' weights per specialization. The result is "confident"
+ * when the best score reaches {@code chat.classifier.min-score} and beats the
+ * runner-up by {@code chat.classifier.min-margin}, in which case chat can
+ * answer without the LLM.
+ */
+@Slf4j
+@Component
+public class SymptomClassifier {
+
+    private static final String DATASET = "chat/symptom-specializations.tsv";
+    private static final String DISCLAIMER = "This is not a medical diagnosis. Please consult a qualified doctor.";
+
+    // Plain-language summary per specialization, used as the inferred issue
+    private static final Map<String, String> ISSUES = Map.ofEntries(
+            Map.entry("Cardiology", "a heart or blood pressure related concern"),
+            Map.entry("Neurology", "a nerve or brain related concern such as headaches or dizziness"),
+            Map.entry("Orthopedics", "a bone, joint or muscle problem"),
+            Map.entry("Pediatrics", "a health concern in a child"),
+            Map.entry("Dermatology", "a skin, hair or allergy related condition"),
+            Map.entry("Gynecology", "a women's health or pregnancy related concern"),
+            Map.entry("ENT", "an ear, nose or throat problem"),
+            Map.entry("Ophthalmology", "an eye or vision related problem"),
+            Map.entry("Pulmonology", "a breathing or lung related concern"),
+            Map.entry("Oncology", "a concern that should be checked by a cancer specialist"),
+            Map.entry("Surgery", "a condition that may need a surgical opinion"),
+            Map.entry("General Medicine", "a common illness such as an infection or fever"));
+
+    private final KeywordAutomaton automaton;
+    private final Map<String, List<Weight>> weightsByTerm = new HashMap<>();
+    private final double minScore;
+    private final double minMargin;
+
+    public SymptomClassifier(
+            @Value("${chat.classifier.min-score:3.0}") double minScore,
+            @Value("${chat.classifier.min-margin:1.5}") double minMargin) throws IOException {
+        this.minScore = minScore;
+        this.minMargin = minMargin;
+        ClassPathResource resource = new ClassPathResource(DATASET);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t");
+                if (columns.length != 3) {
+                    throw new IllegalStateException("Malformed line in " + DATASET + ": " + line);
+                }
+                double weight = Double.parseDouble(columns[1].trim());
+                for (String term : columns[2].split(",")) {
+                    weightsByTerm.computeIfAbsent(term.trim().toLowerCase(), k -> new ArrayList<>())
+                            .add(new Weight(columns[0].trim(), weight));
+                }
+            }
+        }
+        this.automaton = KeywordAutomaton.of(weightsByTerm.keySet());
+        log.info("Symptom classifier loaded {} terms", weightsByTerm.size());
+    }
+
+    public Classification classify(String message) {
+        List<String> terms = automaton.findAll(message);
+        Map<String, Double> scores = new HashMap<>();
+        for (String term : terms) {
+            for (Weight weight : weightsByTerm.get(term)) {
+                scores.merge(weight.specialization, weight.value, Double::sum);
+            }
+        }
+        List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        if (ranked.isEmpty()) {
+            return new Classification(List.of(), terms, 0, "low", false);
+        }
+
+        double top = ranked.get(0).getValue();
+        double second = ranked.size() > 1 ? ranked.get(1).getValue() : 0;
+        // Report up to three specializations that score at least half of the best
+        List<String> specializations = new ArrayList<>();
+        for (Map.Entry<String, Double> entry : ranked) {
+            if (specializations.size() == 3 || entry.getValue() < top / 2) {
+                break;
+            }
+            specializations.add(entry.getKey());
+        }
+        boolean confident = top >= minScore && (second == 0 || top / second >= minMargin);
+        String confidence = !confident ? "low" : top >= minScore * 2 ? "high" : "medium";
+        return new Classification(specializations, terms, top, confidence, confident);
+    }
+
+    /**
+     * Outcome of classifying one message. {@code specializations} is best first
+     * and empty when no term matched.
+     */
+    public record Classification(List<String> specializations, List<String> matchedTerms, double score,
+            String confidence, boolean confident) {
+
+        /** Same shape as the LLM's {@code specialization_match} JSON. */
+        public Map<String, Object> toAnalysis() {
+            List<String> specs = specializations.isEmpty() ? List.of("General Medicine") : specializations;
+            Map<String, Object> analysis = new LinkedHashMap<>();
+            analysis.put("type", "specialization_match");
+            analysis.put("symptom", matchedTerms.isEmpty() ? "described symptoms" : String.join(", ", matchedTerms));
+            analysis.put("inferred_issue", ISSUES.getOrDefault(specs.get(0), "a health concern"));
+            analysis.put("specializations", specs);
+            analysis.put("confidence", confidence);
+            analysis.put("disclaimer", DISCLAIMER);
+            analysis.put("source", "local");
+            return analysis;
+        }
+    }
+
+    private record Weight(String specialization, double value) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects health symptoms in chat messages. English keywords always apply;
+ * languages listed under {@code chat.symptom-keywords.<code>} add their own
+ * (comma-separated, phrases allowed). Each language's keywords are compiled
+ * once into a {@link KeywordAutomaton}.
+ */
+@Slf4j
+@Component
+public class SymptomKeywordMatcher {
+
+    // Keywords that indicate health symptoms (for conditional prompt injection)
+    static final List<String> ENGLISH_KEYWORDS = Arrays.asList(
+            "pain", "ache", "aching", "fever", "cough", "cold", "headache", "stomach",
+            "breathing", "breath", "chest", "heart", "skin", "rash", "itch", "itching",
+            "swelling", "swollen", "injury", "injured", "blood", "bleeding", "vomit",
+            "nausea", "dizziness", "dizzy", "fatigue", "tired", "weakness", "weak",
+            "infection", "sore", "throat", "ear", "eye", "vision", "hearing", "joint",
+            "bone", "muscle", "back", "neck", "leg", "arm", "hand", "foot", "feet",
+            "nose", "allergy", "allergic", "pregnant", "pregnancy", "period", "menstrual",
+            "diabetes", "sugar", "pressure", "bp", "anxiety", "depression", "sleep",
+            "insomnia", "cancer", "tumor", "lump", "burn", "cut", "wound", "fracture",
+            "sprain", "symptom", "symptoms", "problem", "issue", "suffering", "hurts",
+            "hurt", "hurting", "uncomfortable", "discomfort", "unwell", "sick", "ill",
+            "disease", "condition", "diagnosis", "treatment", "doctor", "specialist");
+
+    private final KeywordAutomaton english;
+    private final Map<String, KeywordAutomaton> byLanguage = new HashMap<>();
+
+    public SymptomKeywordMatcher(Environment environment) {
+        this.english = KeywordAutomaton.of(ENGLISH_KEYWORDS);
+        // Accepts a YAML list or a comma-separated string per language
+        Bindable<Map<String, List<String>>> perLanguage = Bindable.of(ResolvableType.forClassWithGenerics(Map.class,
+                ResolvableType.forClass(String.class), ResolvableType.forClassWithGenerics(List.class, String.class)));
+        Map<String, List<String>> extra = Binder.get(environment)
+                .bind("chat.symptom-keywords", perLanguage)
+                .orElse(Collections.emptyMap());
+        extra.forEach((language, keywords) -> {
+            byLanguage.put(language, KeywordAutomaton.of(keywords));
+            log.info("Symptom keywords loaded for language '{}'", language);
+        });
+    }
+
+    /** Symptom keywords in the message, English plus the given language's, in order of appearance. */
+    public List<String> match(String message, String language) {
+        KeywordAutomaton local = language != null ? byLanguage.get(language) : null;
+        if (local == null) {
+            return english.findAll(message);
+        }
+        Set<String> found = new LinkedHashSet<>(english.findAll(message));
+        found.addAll(local.findAll(message));
+        return new ArrayList<>(found);
+    }
+}
@@ -0,0 +1,128 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the model's symptom analysis (specializations, confidence, summary)
+ * so repeated complaints skip the Groq round trip; hospitals are still looked
+ * up per request. Keys are the message reduced to its sorted set of content
+ * words plus the language, so "I have chest pain" and "chest pain!!" share an
+ * entry. Only analyses of a conversation's first message are cached: later
+ * ones depend on the earlier turns, which the key does not cover. Entries
+ * expire after a TTL and the least recently used are evicted beyond the size
+ * bound.
+ */
+@Component
+public class SymptomResponseCache {
+
+    // Words that don't change which specialist a message points to
+    private static final Set<String> STOP_WORDS = Set.of(
+            "i", "im", "i'm", "me", "my", "mine", "a", "an", "the", "and", "or", "is", "am", "are", "was",
+            "have", "has", "had", "having", "been", "be", "feel", "feeling", "felt", "got", "get", "getting",
+            "some", "very", "really", "so", "too", "also", "since", "from", "for", "of", "in", "on", "at",
+            "with", "it", "its", "this", "that", "there", "please", "help", "doctor", "hi", "hello", "hey");
+
+    private final int maxEntries;
+    private final long ttlMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    public SymptomResponseCache(
+            @Value("${chat.cache.max-entries:1000}") int maxEntries,
+            @Value("${chat.cache.ttl-seconds:3600}") long ttlSeconds) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /** Cached analysis for a message, or null. Counts a hit or a miss. */
+    public Map<String, Object> get(String message, String language) {
+        String key = key(message, language);
+        if (key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return entry.analysis;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String message, String language, Map<String, Object> analysis) {
+        String key = key(message, language);
+        if (key == null) {
+            return;
+        }
+        // Model output can hold null values, which Map.copyOf rejects
+        Entry entry = new Entry(Collections.unmodifiableMap(new HashMap<>(analysis)),
+                System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, entry);
+            var eldest = entries.entrySet().iterator();
+            while (entries.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    /** Hit/miss counters and current size. */
+    public Map<String, Object> stats() {
+        long h = hits.get();
+        long m = misses.get();
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", h);
+        stats.put("misses", m);
+        stats.put("hitRate", h + m == 0 ? 0.0 : Math.round(h * 1000.0 / (h + m)) / 1000.0);
+        stats.put("size", size);
+        stats.put("maxEntries", maxEntries);
+        stats.put("evictions", evictions.get());
+        return stats;
+    }
+
+    /** Sorted content words plus language, or null when nothing meaningful is left. */
+    static String key(String message, String language) {
+        if (message == null) {
+            return null;
+        }
+        Set<String> words = new TreeSet<>();
+        for (String word : message.toLowerCase().split("[^\\p{L}\\p{N}']+")) {
+            if (!word.isEmpty() && !STOP_WORDS.contains(word)) {
+                words.add(word);
+            }
+        }
+        if (words.isEmpty()) {
+            return null;
+        }
+        return (language != null ? language : "en") + "|" + String.join(" ", words);
+    }
+
+    private record Entry(Map<String, Object> analysis, long expiresAt) {
+    }
+}
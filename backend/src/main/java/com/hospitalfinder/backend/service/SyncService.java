@@ -0,0 +1,136 @@
+package com.hospitalfinder.backend.service;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.hospitalfinder.backend.dto.SyncChangesDTO;
+import com.hospitalfinder.backend.entity.CatalogChange;
+import com.hospitalfinder.backend.entity.Clinic;
+import com.hospitalfinder.backend.entity.Doctor;
+import com.hospitalfinder.backend.entity.Specialization;
+import com.hospitalfinder.backend.repository.CatalogChangeRepository;
+import com.hospitalfinder.backend.repository.ClinicRepository;
+import com.hospitalfinder.backend.repository.DoctorRepository;
+import com.hospitalfinder.backend.repository.SpecializationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the catalog change feed from the change log, in the order of the
+ * transactions that wrote it: a page only holds changes from transactions
+ * below {@link CatalogChangeLog#horizon()}, and anything committed later sorts
+ * after them, so a client's version never skips a late commit. Each page collapses
+ * repeated changes to the same entity into its last operation and loads the
+ * current state of everything upserted with one query per entity type.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final ClinicRepository clinicRepository;
+    private final DoctorRepository doctorRepository;
+    private final SpecializationRepository specializationRepository;
+    private final CatalogChangeLog catalogChangeLog;
+
+    @Value("${sync.page-size:1000}")
+    private int pageSize;
+
+    @Transactional(readOnly = true)
+    public SyncChangesDTO changesSince(long since) {
+        // Taken before the page is read, so every transaction below it is visible to the query
+        long horizon = catalogChangeLog.horizon();
+        long sinceTxid = since > 0 ? catalogChangeRepository.findTxidById(since).orElse(0L) : 0L;
+        List<CatalogChange> page = catalogChangeRepository.findPage(sinceTxid, since, horizon,
+                PageRequest.of(0, pageSize + 1));
+
+        SyncChangesDTO result = new SyncChangesDTO();
+        result.setSince(since);
+        result.setHasMore(page.size() > pageSize);
+        if (result.isHasMore()) {
+            page = page.subList(0, pageSize);
+        }
+        result.setVersion(page.isEmpty() ? since : page.get(page.size() - 1).getId());
+
+        // Last operation per entity wins
+        Map<CatalogChange.EntityType, Map<Long, CatalogChange.Operation>> latest = new EnumMap<>(
+                CatalogChange.EntityType.class);
+        for (CatalogChange change : page) {
+            latest.computeIfAbsent(change.getEntityType(), k -> new LinkedHashMap<>())
+                    .put(change.getEntityId(), change.getOperation());
+        }
+
+        Set<Long> specIds = upserted(latest, CatalogChange.EntityType.SPECIALIZATION);
+        if (!specIds.isEmpty()) {
+            Map<Long, Specialization> found = specializationRepository.findAllById(specIds).stream()
+                    .collect(Collectors.toMap(Specialization::getId, Function.identity()));
+            for (Long id : specIds) {
+                if (found.containsKey(id)) {
+                    result.getSpecializations().add(found.get(id));
+                } else {
+                    result.getDeleted().getSpecializations().add(id);
+                }
+            }
+        }
+
+        Set<Long> clinicIds = upserted(latest, CatalogChange.EntityType.CLINIC);
+        if (!clinicIds.isEmpty()) {
+            Map<Long, Clinic> found = clinicRepository.findAllWithSpecializationsByIdIn(clinicIds).stream()
+                    .collect(Collectors.toMap(Clinic::getId, Function.identity()));
+            for (Long id : clinicIds) {
+                if (found.containsKey(id)) {
+                    result.getClinics().add(new SyncChangesDTO.ClinicChange(found.get(id)));
+                } else {
+                    result.getDeleted().getClinics().add(id);
+                }
+            }
+        }
+
+        Set<Long> doctorIds = upserted(latest, CatalogChange.EntityType.DOCTOR);
+        if (!doctorIds.isEmpty()) {
+            Map<Long, Doctor> found = doctorRepository.findAllById(doctorIds).stream()
+                    .collect(Collectors.toMap(Doctor::getId, Function.identity()));
+            for (Long id : doctorIds) {
+                if (found.containsKey(id)) {
+                    result.getDoctors().add(new SyncChangesDTO.DoctorChange(found.get(id)));
+                } else {
+                    result.getDeleted().getDoctors().add(id);
+                }
+            }
+        }
+
+        result.getDeleted().getClinics().addAll(deleted(latest, CatalogChange.EntityType.CLINIC));
+        result.getDeleted().getDoctors().addAll(deleted(latest, CatalogChange.EntityType.DOCTOR));
+        result.getDeleted().getSpecializations().addAll(deleted(latest, CatalogChange.EntityType.SPECIALIZATION));
+        return result;
+    }
+
+    private static Set<Long> upserted(Map<CatalogChange.EntityType, Map<Long, CatalogChange.Operation>> latest,
+            CatalogChange.EntityType type) {
+        return withOperation(latest, type, CatalogChange.Operation.UPSERT);
+    }
+
+    private static Set<Long> deleted(Map<CatalogChange.EntityType, Map<Long, CatalogChange.Operation>> latest,
+            CatalogChange.EntityType type) {
+        return withOperation(latest, type, CatalogChange.Operation.DELETE);
+    }
+
+    private static Set<Long> withOperation(Map<CatalogChange.EntityType, Map<Long, CatalogChange.Operation>> latest,
+            CatalogChange.EntityType type, CatalogChange.Operation operation) {
+        return latest.getOrDefault(type, Map.of()).entrySet().stream()
+                .filter(e -> e.getValue() == operation)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,101 @@
+package com.hospitalfinder.backend.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * End-to-end latency of {@code POST /api/chat} against a running backend, with
+ * a mix of plain chat, symptom and FAQ messages. Start the backend with
+ * {@code CHAT_LLM_PROVIDER=stub} (optionally tuning {@code chat.llm.stub.*}) to
+ * load-test without network, or with Groq to compare the two profiles. Not
+ * part of the test suite; run by hand:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.hospitalfinder.backend.bench.ChatLoadBenchmark [baseUrl] [requests] [concurrency]
+ * </pre>
+ */
+public class ChatLoadBenchmark {
+
+    private static final String[] MESSAGES = {
+            "What are good sources of vitamin D?",
+            "How much water should I drink every day?",
+            "I have chest pain and shortness of breath",
+            "My child has a high fever and a rash",
+            "I feel tired all the time",
+            "How do I cancel my appointment?",
+            "hospitals in Hyderabad" };
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+
+        ObjectMapper json = new ObjectMapper();
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        URI uri = URI.create(baseUrl + "/api/chat");
+        ExecutorService pool = Executors.newFixedThreadPool(concurrency);
+
+        List<Future<long[]>> results = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            // Numbered so repeats don't all hit the symptom cache or coalesce
+            String message = MESSAGES[i % MESSAGES.length] + (i < MESSAGES.length ? "" : " (" + i + ")");
+            byte[] body = json.writeValueAsBytes(Map.of(
+                    "messages", List.of(Map.of("role", "user", "content", message)),
+                    "latitude", 17.385, "longitude", 78.4867));
+            results.add(pool.submit(() -> {
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofSeconds(60))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                        .build();
+                long t0 = System.nanoTime();
+                int status;
+                try {
+                    status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                } catch (Exception e) {
+                    status = -1;
+                }
+                return new long[] { System.nanoTime() - t0, status };
+            }));
+        }
+
+        List<Long> latencies = new ArrayList<>();
+        Map<Long, Integer> statuses = new TreeMap<>();
+        for (Future<long[]> result : results) {
+            long[] r = result.get();
+            latencies.add(r[0]);
+            statuses.merge(r[1], 1, Integer::sum);
+        }
+        long elapsed = System.nanoTime() - started;
+        pool.shutdown();
+
+        Collections.sort(latencies);
+        System.out.printf("%d requests, concurrency %d, %.1f req/s%n", requests, concurrency,
+                requests / (elapsed / 1e9));
+        System.out.printf("p50 %.1f ms  p90 %.1f ms  p99 %.1f ms  max %.1f ms%n",
+                percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+                latencies.get(latencies.size() - 1) / 1e6);
+        System.out.println("status counts (-1 = no response): " + statuses);
+    }
+
+    private static double percentile(List<Long> sorted, int p) {
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1e6;
+    }
+}
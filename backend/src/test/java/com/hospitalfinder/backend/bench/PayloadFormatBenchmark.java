@@ -0,0 +1,122 @@
+package com.hospitalfinder.backend.bench;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.hospitalfinder.backend.config.ProtobufSchemas;
+import com.hospitalfinder.backend.dto.ClinicSummaryDTO;
+import com.hospitalfinder.backend.dto.NearbyClinicDTO;
+import com.hospitalfinder.backend.service.ClinicIndex;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Payload size and encode/decode time of the clinic list DTOs as JSON, CBOR and
+ * Protobuf, using the same mapper setup as the HTTP converters. Not part of
+ * the test suite; run by hand:
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     com.hospitalfinder.backend.bench.PayloadFormatBenchmark [clinics] [iterations]
+ * </pre>
+ */
+public class PayloadFormatBenchmark {
+
+    private static final String[] CITIES = { "Hyderabad", "Bangalore", "Chennai", "Mumbai", "Pune" };
+    private static final String[] SPECS = { "Cardiology", "Neurology", "Orthopedics", "Pediatrics",
+            "General Medicine", "ENT", "Dermatology", "Gynecology" };
+
+    public static void main(String[] args) throws Exception {
+        int clinics = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        ObjectMapper json = builder.build();
+        CBORMapper cbor = new CBORMapper();
+        builder.configure(cbor);
+        ProtobufSchemas schemas = new ProtobufSchemas(builder);
+
+        List<ClinicIndex.Hit> hits = sampleHits(clinics);
+        List<ClinicSummaryDTO> summaries = hits.stream()
+                .map(hit -> new ClinicSummaryDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                .toList();
+        List<NearbyClinicDTO> nearby = hits.stream()
+                .map(hit -> new NearbyClinicDTO(hit.entry(), hit.distance(), hit.estimatedTime()))
+                .toList();
+
+        System.out.printf("%d clinics, %d iterations%n", clinics, iterations);
+        System.out.printf("%-22s %-9s %12s %14s %14s%n", "payload", "format", "bytes", "encode us/op", "decode us/op");
+        run("ClinicSummaryDTO[]", summaries, ClinicSummaryDTO.class, json, cbor, schemas, iterations);
+        run("NearbyClinicDTO[]", nearby, NearbyClinicDTO.class, json, cbor, schemas, iterations);
+    }
+
+    private static <T> void run(String label, List<T> items, Class<T> type, ObjectMapper json, CBORMapper cbor,
+            ProtobufSchemas schemas, int iterations) throws Exception {
+        ProtobufMapper protobuf = schemas.mapper();
+        ProtobufSchema listSchema = schemas.listSchema(type);
+        Object protoBody = new ProtobufSchemas.ListMessage<>(items);
+
+        // DTOs are write-only, so decoding goes to a tree, as a generic client would
+        report(label, "json", json.writer(), json.readerFor(JsonNode.class)::readValue, items, iterations);
+        report(label, "cbor", cbor.writer(), cbor.readerFor(JsonNode.class)::readValue, items, iterations);
+        report(label, "protobuf", protobuf.writer(listSchema),
+                protobuf.readerFor(JsonNode.class).with(listSchema)::readValue, protoBody, iterations);
+    }
+
+    private static void report(String label, String format, ObjectWriter writer, Decoder decoder, Object body,
+            int iterations) throws Exception {
+        byte[] encoded = writer.writeValueAsBytes(body);
+        // Warm up both paths before timing
+        for (int i = 0; i < iterations; i++) {
+            writer.writeValueAsBytes(body);
+            decoder.decode(encoded);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            writer.writeValueAsBytes(body);
+        }
+        double encodeUs = (System.nanoTime() - start) / 1000.0 / iterations;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            decoder.decode(encoded);
+        }
+        double decodeUs = (System.nanoTime() - start) / 1000.0 / iterations;
+        System.out.printf("%-22s %-9s %12d %14.1f %14.1f%n", label, format, encoded.length, encodeUs, decodeUs);
+    }
+
+    private static List<ClinicIndex.Hit> sampleHits(int count) {
+        Random random = new Random(42);
+        List<ClinicIndex.Hit> hits = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String city = CITIES[random.nextInt(CITIES.length)];
+            List<String> specs = new ArrayList<>();
+            for (int s = 0; s < 1 + random.nextInt(3); s++) {
+                String spec = SPECS[random.nextInt(SPECS.length)];
+                if (!specs.contains(spec)) {
+                    specs.add(spec);
+                }
+            }
+            ClinicIndex.Entry entry = new ClinicIndex.Entry((long) i, "Clinic " + i, i + " Main Road, " + city,
+                    city, 12.0 + random.nextDouble() * 8, 72.0 + random.nextDouble() * 8,
+                    "98" + (10000000 + random.nextInt(89999999)), "https://images.example.com/clinics/" + i + ".jpg",
+                    Math.round((3 + random.nextDouble() * 2) * 10) / 10.0, random.nextInt(2000), specs, new BitSet());
+            double distance = random.nextDouble() * 20;
+            hits.add(new ClinicIndex.Hit(entry, distance, (int) Math.round(distance * 3)));
+        }
+        return hits;
+    }
+
+    @FunctionalInterface
+    private interface Decoder {
+        Object decode(byte[] bytes) throws Exception;
+    }
+}
@@ -0,0 +1,111 @@
+package com.hospitalfinder.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MS = 1000;
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 3, OPEN_MS, 1, now::get);
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure(breaker.tryAcquire());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void opensAfterThresholdConsecutiveFailures() {
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertTrue(breaker.isOpen());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onSuccess(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyTheProbeLimit() {
+        open();
+        now.addAndGet(OPEN_MS);
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        assertNotNull(probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+
+        breaker.onSuccess(probe);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertNotNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void failedProbeOpensAgain() {
+        open();
+        now.addAndGet(OPEN_MS);
+        breaker.onFailure(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void abandonedProbeFreesItsSlotWithoutClosing() {
+        open();
+        now.addAndGet(OPEN_MS);
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+        breaker.onAbandoned(probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        CircuitBreaker.Permit next = breaker.tryAcquire();
+        assertNotNull(next);
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void staleSuccessDoesNotCloseHalfOpenBreaker() {
+        CircuitBreaker.Permit slow = breaker.tryAcquire();
+        open();
+        now.addAndGet(OPEN_MS);
+        CircuitBreaker.Permit probe = breaker.tryAcquire();
+
+        breaker.onSuccess(slow);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onFailure(probe);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void staleFailureDoesNotReopenClosedBreaker() {
+        CircuitBreaker.Permit slow = breaker.tryAcquire();
+        open();
+        now.addAndGet(OPEN_MS);
+        breaker.onSuccess(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.onFailure(slow);
+        breaker.onFailure(breaker.tryAcquire());
+        breaker.onFailure(breaker.tryAcquire());
+        assertFalse(breaker.isOpen());
+    }
+}
@@ -0,0 +1,123 @@
+package com.hospitalfinder.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hospitalfinder.backend.service.ClinicRankingService.Nearby;
+import com.hospitalfinder.backend.service.ClinicRankingService.RankedClinic;
+
+class ClinicRankingServiceTest {
+
+    private static final double LAT = 12.97;
+    private static final double LNG = 77.59;
+    private static final List<String> SPECS = List.of("Cardiology", "Dermatology", "Neurology");
+    private static final Map<String, Integer> SPEC_ORDINALS = Map.of("cardiology", 0, "dermatology", 1,
+            "neurology", 2);
+
+    private final ClinicIndex clinicIndex = new ClinicIndex(null, new CatalogVersion(event -> {
+    }));
+    private final ClinicRankingService rankingService = new ClinicRankingService(clinicIndex);
+
+    ClinicRankingServiceTest() {
+        ReflectionTestUtils.setField(rankingService, "textWeight", 3.0);
+        ReflectionTestUtils.setField(rankingService, "specializationWeight", 4.0);
+        ReflectionTestUtils.setField(rankingService, "ratingWeight", 1.5);
+        ReflectionTestUtils.setField(rankingService, "reviewsWeight", 0.5);
+        ReflectionTestUtils.setField(rankingService, "distanceWeight", 2.0);
+        ReflectionTestUtils.setField(rankingService, "distanceScaleKm", 5.0);
+        ReflectionTestUtils.setField(rankingService, "maxResults", 100);
+    }
+
+    private static ClinicIndex.Entry clinic(long id, double northKm, Double rating, Integer reviews,
+            String... specs) {
+        BitSet mask = new BitSet();
+        for (String spec : specs) {
+            mask.set(SPEC_ORDINALS.get(spec.toLowerCase()));
+        }
+        return new ClinicIndex.Entry(id, "Clinic " + id, "Address " + id, "Bengaluru", LAT + northKm / 111.2, LNG,
+                null, null, rating, reviews, List.of(specs), mask);
+    }
+
+    private static List<Long> ids(List<RankedClinic> ranked) {
+        return ranked.stream().map(r -> r.entry().id()).toList();
+    }
+
+    private void assertSameAsFullRanking(int nearest, List<String> specs, int limit) {
+        Nearby nearby = rankingService.nearest(LAT, LNG, nearest);
+        assertEquals(ids(rankingService.rank(null, null, specs, LAT, LNG, limit)),
+                ids(rankingService.rank(nearby, specs, limit)),
+                () -> "nearest=" + nearest + " specs=" + specs + " limit=" + limit);
+    }
+
+    @Test
+    void strongClinicJustOutsideTheSetIsNotLost() {
+        List<ClinicIndex.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            entries.add(clinic(id, 0.1 * id, 2.0, 3));
+        }
+        // Sixth nearest: full match, top rating and reviews, a few hundred metres past the set
+        entries.add(clinic(6, 0.8, 5.0, 900, "Cardiology"));
+        clinicIndex.preload(entries, SPEC_ORDINALS);
+
+        Nearby nearby = rankingService.nearest(LAT, LNG, 5);
+        assertFalse(nearby.positions().get(nearby.snapshot().position(6L)));
+
+        List<RankedClinic> ranked = rankingService.rank(nearby, List.of("Cardiology"), 3);
+        assertEquals(6L, ranked.get(0).entry().id());
+        assertEquals(ids(rankingService.rank(null, null, List.of("Cardiology"), LAT, LNG, 3)), ids(ranked));
+    }
+
+    @Test
+    void rankingWithinTheSetMatchesFullRankingWhenTheBoundHolds() {
+        List<ClinicIndex.Entry> entries = new ArrayList<>();
+        // Full match, top rating and reviews, all nearer than the set's radius: the best three beat the bound
+        for (long id = 1; id <= 5; id++) {
+            entries.add(clinic(id, 0.1 * id, 5.0, 200, "Cardiology"));
+        }
+        entries.add(clinic(6, 60, 1.0, 1));
+        clinicIndex.preload(entries, SPEC_ORDINALS);
+
+        Nearby nearby = rankingService.nearest(LAT, LNG, 5);
+        assertTrue(Double.isFinite(nearby.radiusKm()));
+        assertSameAsFullRanking(5, List.of("Cardiology"), 3);
+    }
+
+    @Test
+    void prefetchedRankingMatchesFullRankingOnRandomCatalogs() {
+        Random random = new Random(42);
+        List<ClinicIndex.Entry> entries = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            Double rating = random.nextInt(10) == 0 ? null : 1 + 4 * random.nextDouble();
+            Integer reviews = random.nextInt(10) == 0 ? null : random.nextInt(1000);
+            List<String> specs = SPECS.stream().filter(spec -> random.nextInt(3) == 0).toList();
+            ClinicIndex.Entry entry = clinic(id, 40 * random.nextDouble() - 20, rating, reviews,
+                    specs.toArray(String[]::new));
+            if (random.nextInt(20) == 0) {
+                // Some clinics have no location and can only compete on the other terms
+                entry = new ClinicIndex.Entry(entry.id(), entry.name(), entry.address(), entry.city(), null, null,
+                        null, null, entry.rating(), entry.reviews(), entry.specializations(), entry.specMask());
+            }
+            entries.add(entry);
+        }
+        clinicIndex.preload(entries, SPEC_ORDINALS);
+
+        for (int nearest : new int[] { 0, 1, 8, 50, 299, 400 }) {
+            for (List<String> specs : List.of(List.<String>of(), List.of("Cardiology"),
+                    List.of("dermatology", "Neurology"))) {
+                for (int limit : new int[] { 1, 5, 20 }) {
+                    assertSameAsFullRanking(nearest, specs, limit);
+                }
+            }
+        }
+    }
+}
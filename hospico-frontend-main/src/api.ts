@@ -38,6 +38,19 @@ apiClient.interceptors.response.use(
   }
 );
 
+// Error thrown by apiRequest; keeps the HTTP status and body for callers that need more than the message
+export class ApiError extends Error {
+  status?: number;
+  data?: unknown;
+
+  constructor(message: string, status?: number, data?: unknown) {
+    super(message);
+    this.name = "ApiError";
+    this.status = status;
+    this.data = data;
+  }
+}
+
 export async function apiRequest<TResponse, TBody = unknown>(
   path: string,
   method: Method = "GET",
@@ -103,7 +116,7 @@ export async function apiRequest<TResponse, TBody = unknown>(
       message = err.message || "Unknown Error";
     }
 
-    throw new Error(message);
+    throw new ApiError(message, err.response?.status, err.response?.data);
   }
 }
 
@@ -2,7 +2,7 @@ import { useState, useRef, useEffect } from 'react';
 import { MessageCircle, X, Send, Bot, User, Loader2, MapPin, Mic, MicOff, Volume2 } from 'lucide-react';
 import { useTheme } from '../context/ThemeContext';
 import { motion, AnimatePresence } from 'framer-motion';
-import { apiRequest } from '../api';
+import { apiRequest, ApiError } from '../api';
 import { useSelector } from "react-redux";
 import type { RootState } from "../store/store";
 import { Link } from 'react-router-dom';
@@ -69,6 +69,8 @@ const ChatWidget = ({ autoOpen = false, embedMode = false }: ChatWidgetProps) =>
         { role: 'system', content: "Hi! I'm your health assistant. I can provide general symptom information, but please note that I may not be fully accurate. For a proper diagnosis, please always consult a doctor." }
     ]);
     const [input, setInput] = useState('');
+    // History lives on the server; after the first reply only the new message is sent
+    const [conversationId, setConversationId] = useState<string | null>(null);
     const [isLoading, setIsLoading] = useState(false);
     const [isListening, setIsListening] = useState(false);
     const [speakingMessageId, setSpeakingMessageId] = useState<number | null>(null);
@@ -194,7 +196,9 @@ const ChatWidget = ({ autoOpen = false, embedMode = false }: ChatWidgetProps) =>
                 }));
             history.push({ role: 'user', content: userMessage.content });
 
-            const response = await apiRequest<{
+            type ChatResponse = {
+                conversationId?: string;
+                conversationReset?: boolean;
                 reply?: string;
                 type?: string;
                 hospitals?: Hospital[];
@@ -203,17 +207,36 @@ const ChatWidget = ({ autoOpen = false, embedMode = false }: ChatWidgetProps) =>
                 specializations?: string[];
                 confidence?: string;
                 disclaimer?: string;
-            }, any>(
+            };
+            const send = (withId: string | null) => apiRequest<ChatResponse, any>(
                 '/api/chat',
                 'POST',
                 {
-                    messages: history,
+                    messages: withId ? [{ role: 'user', content: userMessage.content }] : history,
+                    conversationId: withId ?? undefined,
                     language: getCurrentLanguage(),
                     latitude: userLocation?.latitude,
                     longitude: userLocation?.longitude
                 }
             );
 
+            let response: ChatResponse;
+            try {
+                response = await send(conversationId);
+            } catch (error) {
+                // The server no longer has this conversation (expired or restarted): start over from our history
+                if (conversationId && error instanceof ApiError && error.status === 409) {
+                    setConversationId(null);
+                    response = await send(null);
+                } else {
+                    throw error;
+                }
+            }
+
+            if (response.conversationId) {
+                setConversationId(response.conversationId);
+            }
+
             if (response.hospitals) {
                 setMessages(prev => [...prev, {
                     role: 'bot',